@@ -5,12 +5,16 @@ import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import logging.Log;
+import logging.Logger;
 
 /**
  * Main entry point for the Poker Server application.
  * This launches the JavaFX UI that allows the server host to control the game.
+ * To run the server without the UI, start server.ServerMain instead.
  */
 public class JavaFXTemplate extends Application {
+    private static final Logger LOG = Log.getLogger(JavaFXTemplate.class);
 
     /**
      * Initializes and displays the server UI.
@@ -20,7 +24,7 @@ public class JavaFXTemplate extends Application {
     @Override
     public void start(Stage primaryStage) {
         try {
-            System.out.println("Loading FXML for the server UI...");
+            LOG.info("Loading FXML for the server UI...");
 
             // Load the FXML layout for the server control panel.
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/Server.fxml"));
@@ -42,8 +46,7 @@ public class JavaFXTemplate extends Application {
             primaryStage.setTitle("Poker Server - Start");
             primaryStage.show();
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("Failed to load Server.fxml. Check if the file exists and is correctly referenced.");
+            LOG.error("Failed to load Server.fxml. Check if the file exists and is correctly referenced.", e);
         }
     }
 
@@ -1,36 +1,50 @@
 package controller;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.net.ProtocolException;
 import java.net.Socket;
-import java.util.ArrayList;
-
-import model.Card;
-import model.Dealer;
-import model.Deck;
+import java.util.concurrent.locks.ReentrantLock;
+import model.Hand;
+import model.Paytable;
 import model.Player;
 import model.PokerInfo;
 import model.ThreeCardLogic;
+import network.Connection;
+import network.Broadcast;
+import network.GameProtocol;
+import network.OutboundQueue;
+import network.SharedFrame;
+import network.StateEncoder;
 import server.PokerServer;
+import server.Table;
 
 /**
  * Handles client connections and game interactions on the server side.
- * Each instance of this class manages a single player.
+ * Each instance of this class manages a single player, either on its own thread over a
+ * blocking socket or as the handler of a non-blocking NIO connection.
  */
 public class ClientHandler implements Runnable {
-    private final Socket clientSocket; // Socket connection with the client
+    private final Socket clientSocket; // Socket connection with the client, in blocking mode
+    private final Connection connection; // NIO connection with the client, in NIO mode
     private final PokerServer server; // Reference to the main PokerServer instance
-    private ObjectInputStream input;
-    private ObjectOutputStream output;
+    // Most frames handed to an NIO connection at once; the rest wait in the bounded queue
+    private static final int NIO_FRAMES_IN_FLIGHT = 4;
+
+    private DataInputStream input;
+    private final OutboundQueue outbound = new OutboundQueue(); // Messages waiting for the writer
+    private final ReentrantLock writeLock = new ReentrantLock(); // One NIO drainer at a time
+    // Snapshot, then deltas; used only by the writer thread or under writeLock
+    private final StateEncoder stateEncoder = new StateEncoder();
 
-    private Dealer dealer;
     private Player player;
-    private Deck deck;
     private boolean playingAnotherHand = false;
-    private int playerNumber; // Player ID assigned by the server
-    private static int connectedPlayers = 0; // Track players connected
-    private static final Object playerLock = new Object(); // Lock for synchronization
+    private volatile Table table; // The table this player is seated at
+    private volatile int playerNumber; // Player ID at the table, assigned when seated
+    private boolean seatAnnounced; // Player number sent; touched only in the table's mailbox
     private boolean hasPlayed = false; // Track if the player has played
 
     /**
@@ -38,15 +52,26 @@ public class ClientHandler implements Runnable {
      *
      * @param clientSocket The socket connection to the client.
      * @param server       The PokerServer instance managing the game.
-     * @param playerNumber The unique player number assigned by the server.
      */
-    public ClientHandler(Socket clientSocket, PokerServer server, int playerNumber) {
+    public ClientHandler(Socket clientSocket, PokerServer server) {
         this.clientSocket = clientSocket;
+        this.connection = null;
+        this.server = server;
+        this.player = new Player();
+    }
+
+    /**
+     * Creates a handler for a client served by the NIO transport. Messages arrive through
+     * handleFrame rather than a thread of this handler's own.
+     *
+     * @param connection   The client's NIO connection.
+     * @param server       The PokerServer instance managing the game.
+     */
+    public ClientHandler(Connection connection, PokerServer server) {
+        this.clientSocket = null;
+        this.connection = connection;
         this.server = server;
-        this.dealer = new Dealer();
         this.player = new Player();
-        this.deck = new Deck();
-        this.playerNumber = playerNumber;
     }
     
     public Player getPlayer() {
@@ -55,9 +80,9 @@ public class ClientHandler implements Runnable {
     
     /**
      * Returns the player's current hand.
-     * @return The player's hand as an ArrayList of Cards.
+     * @return The player's immutable hand.
      */
-    public ArrayList<Card> getPlayerHand() {
+    public Hand getPlayerHand() {
         return player.getHand();
     }
 
@@ -68,6 +93,33 @@ public class ClientHandler implements Runnable {
     public int getPlayerNumber() {
         return playerNumber;
     }
+
+    /**
+     * Returns the table this player is seated at.
+     * @return The player's table, or null before the player is seated.
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Records the table and seat this player was given. Called by the table when seating.
+     *
+     * @param table        The table the player is seated at.
+     * @param playerNumber The player's seat number at that table.
+     */
+    public void joinTable(Table table, int playerNumber) {
+        this.table = table;
+        this.playerNumber = playerNumber;
+    }
+
+    /**
+     * Returns the queue of messages waiting to be written to this client, for metrics.
+     * @return The client's outbound queue.
+     */
+    public OutboundQueue getOutboundQueue() {
+        return outbound;
+    }
   
 
 
@@ -79,32 +131,16 @@ public class ClientHandler implements Runnable {
         try {
             setupStreams();
 
-            synchronized (playerLock) {
-                connectedPlayers++;
-                playerNumber = connectedPlayers;
-                server.logGameEvent("Player " + playerNumber + " connected: " + clientSocket.getInetAddress());
-
-                // Wait until both players join before starting
-                while (connectedPlayers < 2) {
-                    server.logGameEvent("Waiting for second player...");
-                    playerLock.wait(); // Pause thread until another player joins
-                }
-                playerLock.notifyAll(); // Wake both players when ready
+            logGameEvent("Player " + playerNumber + " connected: " + clientSocket.getInetAddress());
+            if (!table.isGameReady()) {
+                logGameEvent("Waiting for second player..."); // tableReady follows once matched
             }
 
-            // Send Player Number to Client
-            output.writeInt(playerNumber);
-            output.flush();
-
             while (!clientSocket.isClosed()) {
-                Object receivedData = input.readObject();
-                if (receivedData instanceof PokerInfo) {
-                    PokerInfo info = (PokerInfo) receivedData;
-                    processGame(info);
-                }
+                handleFrame(GameProtocol.readFrame(input));
             }
-        } catch (IOException | ClassNotFoundException | InterruptedException e) {
-            server.logGameEvent("Player " + playerNumber + " disconnected.");
+        } catch (IOException e) {
+            logGameEvent("Player " + playerNumber + " disconnected.");
         } finally {
             closeConnection();
         }
@@ -112,12 +148,116 @@ public class ClientHandler implements Runnable {
 
 
 
+    /**
+     * Starts an NIO client. Its player number follows once it is matched with an opponent.
+     */
+    public void start() {
+        logGameEvent("Player " + playerNumber + " connected: " + connection.getRemoteAddress());
+    }
+
+    /**
+     * Called by the table, in its mailbox, once both seats are filled. Sends the player
+     * number as the client's first frame; a player whose opponent is replaced keeps
+     * playing without being told again.
+     */
+    public void tableReady() {
+        if (seatAnnounced) {
+            logGameEvent("New opponent joined Player " + playerNumber + ".");
+            return;
+        }
+        seatAnnounced = true;
+        send(GameProtocol.encodeSeat(playerNumber));
+    }
+
+    /**
+     * Handles a message from the client. For an NIO client this is called on a game thread,
+     * never an I/O thread.
+     *
+     * @param payload The message payload sent by the client.
+     * @throws ProtocolException If the message is malformed.
+     */
+    public void handleFrame(byte[] payload) throws ProtocolException {
+        if (GameProtocol.type(payload) == GameProtocol.RESYNC) {
+            requestSnapshot();
+        } else {
+            processGame(GameProtocol.decode(payload));
+        }
+    }
+
+    // The client missed an update; it is sent a snapshot in order with its other messages
+    private void requestSnapshot() {
+        logGameEvent("Player " + playerNumber + " missed an update; resending the table state.");
+        if (!outbound.offerResync()) {
+            disconnectSlowClient();
+        } else if (connection != null) {
+            drainOutbound();
+        }
+    }
+
+    /**
+     * Cleans up after an NIO client's connection has closed.
+     */
+    public void connectionClosed() {
+        logGameEvent("Player " + playerNumber + " disconnected.");
+        server.removeClient(this);
+    }
+
     /**
      * Initializes input and output streams for communication with the client.
      */
     private void setupStreams() throws IOException {
-        output = new ObjectOutputStream(clientSocket.getOutputStream());
-        input = new ObjectInputStream(clientSocket.getInputStream());
+        input = new DataInputStream(new BufferedInputStream(clientSocket.getInputStream()));
+    }
+
+    /**
+     * Writes queued messages to a blocking client until the connection closes. Runs on the
+     * client's own writer thread, so a client that reads slowly holds up only its own messages.
+     */
+    public void writeOutbound() {
+        try {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(clientSocket.getOutputStream()));
+            OutboundQueue.Message message;
+            while ((message = outbound.take()) != null) {
+                SharedFrame frame = message.frame(stateEncoder); // Null for a resync with nothing sent yet
+                if (frame != null) {
+                    try {
+                        frame.writeTo(output);
+                    } finally {
+                        frame.release();
+                    }
+                }
+                if (outbound.depth() == 0) {
+                    output.flush(); // Messages queued back to back go out in one write
+                }
+            }
+        } catch (IOException e) {
+            if (!outbound.isClosed()) {
+                logGameEvent("Error sending game data to Player " + playerNumber + ": " + e.getMessage());
+                disconnect();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands queued messages to an NIO client's connection, keeping only a few frames in
+     * flight so the rest wait in the bounded queue. Called after each send and whenever the
+     * connection has written everything it held.
+     */
+    public void drainOutbound() {
+        writeLock.lock();
+        try {
+            OutboundQueue.Message message;
+            while (connection.pendingFrames() < NIO_FRAMES_IN_FLIGHT && (message = outbound.poll()) != null) {
+                SharedFrame frame = message.frame(stateEncoder);
+                if (frame != null) {
+                    connection.send(frame);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
     }
 
 
@@ -134,14 +274,14 @@ public class ClientHandler implements Runnable {
         player.setPairPlusBet(info.getPairPlusBet());
 
         if (info.isPlayerFolded()) {
-            server.incrementReadyPlayers();
+            table.incrementReadyPlayers();
             info.setGameMessage("Player " + playerNumber + " folded.");
-            server.logGameEvent("Player " + playerNumber + " folded.");
+            logGameEvent("Player " + playerNumber + " folded.");
         } else {
-            server.logGameEvent("Player " + playerNumber + " played.");
+            logGameEvent("Player " + playerNumber + " played.");
         }
 
-        server.broadcastToPlayers(info);
+        table.broadcastToPlayers(info);
     }
 
 
@@ -152,18 +292,18 @@ public class ClientHandler implements Runnable {
      */
     private void resolveRound(PokerInfo info) {
         info.setDealerCardsHidden(false); // Reveal dealer's cards
-        server.resetReadyPlayers();       // Reset for next round
+        table.resetReadyPlayers();       // Reset for next round
 
-        int gameResult = ThreeCardLogic.compareHands(dealer.getDealersHand(), player.getHand());
+        int gameResult = ThreeCardLogic.compareHands(table.getDealer().getDealersHand(), player.getHand());
         int winnings = calculateWinnings(gameResult, info);
 
         player.updateTotalWinnings(winnings);
         info.setTotalWinnings(player.getTotalWinnings());
 
-        server.logGameEvent("Game Result: Player " + playerNumber + " | " + info.getGameMessage() +
+        logGameEvent("Game Result: Player " + playerNumber + " | " + info.getGameMessage() +
                             " | Winnings: $" + info.getTotalWinnings());
 
-        server.broadcastToPlayers(info);
+        table.broadcastResult(info);
     }
 
     
@@ -175,24 +315,19 @@ public class ClientHandler implements Runnable {
      * @return The total winnings for the player.
      */
     private int calculateWinnings(int gameResult, PokerInfo info) {
-        int winnings = 0;
+        int winnings = settleAnteAndPlay(gameResult);
 
         if (gameResult == ThreeCardLogic.PLAYER_WIN) {
-            winnings += player.getAnteBet() * 2;
-            winnings += player.getPlayBet() * 2;
             info.setGameMessage("Player " + playerNumber + " wins!");
         } else if (gameResult == ThreeCardLogic.DEALER_WIN) {
-            winnings -= player.getAnteBet();
-            winnings -= player.getPlayBet();
             info.setGameMessage("Player " + playerNumber + " loses.");
         } else {
-            winnings += player.getAnteBet();
-            winnings += player.getPlayBet();
             info.setGameMessage("Player " + playerNumber + " ties.");
         }
 
         // Pair Plus Winnings
-        int pairPlusWinnings = ThreeCardLogic.evalPPWinnings(player.getHand(), player.getPairPlusBet());
+        int pairPlusWinnings = server.getPaytable().pairPlusWinnings(
+                ThreeCardLogic.evalHand(player.getHand()), player.getPairPlusBet());
         winnings += pairPlusWinnings;
 
         if (pairPlusWinnings > 0) {
@@ -209,145 +344,57 @@ public class ClientHandler implements Runnable {
 
 
     /**
-     * Checks if it is the player's turn based on the server's turn tracking.
+     * Settles the Ante and Play bets with the server's paytable, including any Ante bonus
+     * earned by a hand that made the Play bet.
      *
-     * @return true if it is the player's turn, false otherwise.
+     * @param gameResult The outcome of the hand (win, lose, tie).
+     * @return The net winnings of the Ante, Play and Ante bonus bets.
      */
-    private boolean isPlayerTurn() {
-        return (playerNumber == 1 && server.isPlayer1Turn()) || 
-               (playerNumber == 2 && !server.isPlayer1Turn());
-    }
-
-
-
-/**
- * Deals cards to the player, opponent, and dealer.
- */
-    private void dealCards(PokerInfo info) {
-        server.logGameEvent("Player " + playerNumber + " clicked 'Deal' - Starting the game.");
-        
-        deck = new Deck();
-        deck.newDeck();
-
-        player.setHand(dealer.dealHand());
-
-        // Get opponent and assign cards
-        ClientHandler opponent = server.getOpponentHandler(this);
-        if (opponent != null) {
-            opponent.getPlayer().setHand(dealer.dealHand());
-        }
-
-        dealer.setDealersHand(dealer.dealHand());
-
-        info.setPlayerHand(player.getHand());
-        info.setOpponentHand(opponent != null ? opponent.getPlayer().getHand() : new ArrayList<>());
-        info.setDealerHand(dealer.getDealersHand());
-        info.setDealerCardsHidden(true);
-
-        server.broadcastToPlayers(info);
-    }
-
-
-/**
- * Handles player's play or fold action.
- */
-private void processPlayerAction(PokerInfo info) {
-    if (info.isPlayerFolded()) {
-        server.logGameEvent("Player " + playerNumber + " folded.");
-        server.incrementReadyPlayers();
-        if (server.getReadyPlayers() == 2) {
-            info.setDealerCardsHidden(false);
+    private int settleAnteAndPlay(int gameResult) {
+        Paytable paytable = server.getPaytable();
+        int winnings = paytable.anteAndPlayWinnings(gameResult, player.getAnteBet(), player.getPlayBet());
+        if (player.getPlayBet() > 0) {
+            winnings += paytable.anteBonus(ThreeCardLogic.evalHand(player.getHand()), player.getAnteBet());
         }
-        server.broadcastToPlayers(info);
-        return;
+        return winnings;
     }
 
-    if (info.getPlayBet() > 0) {
-        server.logGameEvent("Player " + playerNumber + " placed Play Bet.");
-        server.incrementReadyPlayers();
-    }
-}
 
 /**
- * Checks if both players have played/folded and reveals dealer's cards if needed.
+ * Processes a player's action and ensures the game progresses correctly.
+ * The action is queued in the table's mailbox and returns at once; the table runs its
+ * players' actions one at a time, so no lock is needed.
+ *
+ * @param info The PokerInfo object containing the player's action (Play/Fold) and bet amounts.
  */
-private void checkRoundCompletion(PokerInfo info) {
-    if (server.getReadyPlayers() == 2) {
-        info.setDealerCardsHidden(false);
-        server.broadcastToPlayers(info);
-    }
+private void processGame(PokerInfo info) {
+    table.submit(() -> playTurn(info));
 }
 
-
 /**
- * Determines the game results and winnings.
+ * Handles dealing, turn-taking, and resolves the round when both players have acted.
+ * Runs in the table's mailbox.
  */
-private void resolveGameResults(PokerInfo info) {
-    int gameResult = ThreeCardLogic.compareHands(dealer.getDealersHand(), player.getHand());
-    int winnings = 0;
-
-    if (gameResult == ThreeCardLogic.PLAYER_WIN) {
-        winnings += player.getAnteBet() * 2;
-        winnings += player.getPlayBet() * 2;
-        info.setGameMessage("Player " + playerNumber + " wins against dealer!");
-    } else if (gameResult == ThreeCardLogic.DEALER_WIN) {
-        winnings -= player.getAnteBet();
-        winnings -= player.getPlayBet();
-        info.setGameMessage("Player " + playerNumber + " loses to dealer.");
-    } else {
-        winnings += player.getAnteBet();
-        winnings += player.getPlayBet();
-        info.setGameMessage("Player " + playerNumber + " ties with dealer.");
+private void playTurn(PokerInfo info) {
+    if (!table.isGameReady()) {
+        logGameEvent("Waiting for another player...");
+        return;
     }
 
-    int pairPlusWinnings = ThreeCardLogic.evalPPWinnings(player.getHand(), player.getPairPlusBet());
-    winnings += pairPlusWinnings;
-
-    if (pairPlusWinnings > 0) {
-        info.setGameMessage(info.getGameMessage() + " Won Pair Plus: $" + pairPlusWinnings);
-    } else if (player.getPairPlusBet() > 0) {
-        winnings -= player.getPairPlusBet();
-        info.setGameMessage(info.getGameMessage() + " Lost Pair Plus.");
+    if (playerNumber != table.getCurrentTurnPlayer()) {
+        logGameEvent("Not Player " + playerNumber + "'s turn. Waiting...");
+        return;
     }
 
-    player.updateTotalWinnings(winnings);
-    info.setTotalWinnings(player.getTotalWinnings());
-
-    server.logGameEvent("Game Result: Player " + playerNumber + " | " + info.getGameMessage());
-
-    server.resetReadyPlayers();
-    server.broadcastToPlayers(info);
-    server.switchTurn();
-}
-
-/**
- * Processes a player's action and ensures the game progresses correctly.
- * Handles dealing, turn-taking, and resolves the round when both players have acted.
- *
- * @param info The PokerInfo object containing the player's action (Play/Fold) and bet amounts.
- */
-private void processGame(PokerInfo info) {
-    synchronized (server) {
-        if (!server.isGameReady()) {
-            server.logGameEvent("Waiting for another player...");
-            return;
-        }
-
-        if (playerNumber != server.getCurrentTurnPlayer()) {
-            server.logGameEvent("Not Player " + playerNumber + "'s turn. Waiting...");
-            return;
-        }
-
-        handlePlayerAction(info);
+    handlePlayerAction(info);
 
-        // If both players have acted, resolve the round
-        if (server.getReadyPlayers() == 2) {
-            resolveRound(info);
-        } else {
-            // Switch turns
-            server.switchTurn();
-            server.broadcastToPlayers(info);
-        }
+    // If both players have acted, resolve the round
+    if (table.getReadyPlayers() == 2) {
+        resolveRound(info);
+    } else {
+        // Switch turns
+        table.switchTurn();
+        table.broadcastToPlayers(info);
     }
 }
 
@@ -363,11 +410,64 @@ private void processGame(PokerInfo info) {
      * @param info The PokerInfo object containing the updated game state.
      */
     public void sendToClient(PokerInfo info) {
+        sendBroadcast(new Broadcast(info, false, 1));
+    }
+
+    /**
+     * Sends the outcome of a settled hand to the client.
+     *
+     * @param info The PokerInfo object containing the final game state.
+     */
+    public void sendResult(PokerInfo info) {
+        sendBroadcast(new Broadcast(info, true, 1));
+    }
+
+    /**
+     * Sends a table update shared with the other players. It is encoded when written, and
+     * players holding the same state share one encoding.
+     *
+     * @param update The update, counting this player among its recipients.
+     */
+    public void sendBroadcast(Broadcast update) {
+        if (!outbound.offer(update)) {
+            disconnectSlowClient();
+        } else if (connection != null) {
+            drainOutbound();
+        }
+    }
+
+    // Queues one message frame
+    private void send(byte[] payload) {
+        if (!outbound.offer(payload)) {
+            disconnectSlowClient();
+        } else if (connection != null) {
+            drainOutbound();
+        }
+    }
+
+    // Called when the outbound queue is full and its policy gives up on the client
+    private void disconnectSlowClient() {
+        if (outbound.isClosed()) {
+            return; // Already disconnecting
+        }
+        logGameEvent("Player " + playerNumber + " is not keeping up (" + outbound.depth()
+                + " messages queued); disconnecting.");
+        disconnect();
+    }
+
+    // Closes the socket from a thread other than the reader; the reader then cleans up
+    private void disconnect() {
+        outbound.close();
+        if (connection != null) {
+            connection.close();
+            return;
+        }
         try {
-            output.writeObject(info);
-            output.flush();
+            if (clientSocket != null) {
+                clientSocket.close();
+            }
         } catch (IOException e) {
-            server.logGameEvent("Error sending game data to Player " + playerNumber + ": " + e.getMessage());
+            logGameEvent("Error closing connection for Player " + playerNumber + ": " + e.getMessage());
         }
     }
 
@@ -375,6 +475,11 @@ private void processGame(PokerInfo info) {
      * Closes the connection and cleans up resources when a client disconnects.
      */
     public void closeConnection() {
+        outbound.close(); // Stops the writer
+        if (connection != null) {
+            connection.close(); // connectionClosed follows once the event loop has closed it
+            return;
+        }
         try {
             if (clientSocket != null) {
                 clientSocket.close();
@@ -382,16 +487,23 @@ private void processGame(PokerInfo info) {
             if (input != null) {
                 input.close();
             }
-            if (output != null) {
-                output.close();
-            }
         } catch (IOException e) {
-            server.logGameEvent("Error closing connection for Player " + playerNumber + ": " + e.getMessage());
+            logGameEvent("Error closing connection for Player " + playerNumber + ": " + e.getMessage());
         } finally {
             server.removeClient(this);
         }
     }
 
+    // Logs under this player's table once seated
+    private void logGameEvent(String message) {
+        Table current = table;
+        if (current != null) {
+            current.logGameEvent(message);
+        } else {
+            server.logGameEvent(message);
+        }
+    }
+
     /**
      * Checks if the player is currently in another hand.
      *
@@ -1,7 +1,6 @@
 package controller;
 
 import javafx.application.Platform;
-import javafx.collections.ListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -25,19 +24,17 @@ public class GameStateController {
      * Sets the server instance, binds the game log ListView, and tracks client count.
      *
      * @param pokerServer The running PokerServer instance.
+     * @param serverLog The observer attached to the server that collects its log messages.
      */
-    public void setServerInstance(PokerServer pokerServer) {
+    public void setServerInstance(PokerServer pokerServer, ServerLogObserver serverLog) {
         this.pokerServer = pokerServer;
 
         // Bind the server's log messages to the UI list view
-        if (pokerServer.getServerLog() != null) {
-            gameLogListView.setItems(pokerServer.getServerLog());
+        gameLogListView.setItems(serverLog.getLog());
 
-            // Automatically scroll the game log to show the latest entries
-            pokerServer.getServerLog().addListener((ListChangeListener<String>) change ->
-                Platform.runLater(() -> gameLogListView.scrollTo(gameLogListView.getItems().size() - 1))
-            );
-        }
+        // Scroll to the latest entries once per batch; the observer already runs on the FX thread
+        serverLog.setOnUpdate(() -> gameLogListView.scrollTo(gameLogListView.getItems().size() - 1));
+        serverLog.start();
 
         updateClientCount(); // Update active clients count when initializing
 
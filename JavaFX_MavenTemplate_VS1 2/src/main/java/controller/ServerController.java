@@ -7,10 +7,14 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import logging.Log;
+import logging.Logger;
 import server.PokerServer;
 import java.io.IOException;
 
 public class ServerController {
+    private static final Logger LOG = Log.getLogger(ServerController.class);
+
     @FXML
     private TextField portField; // Input field for the server port number
     @FXML
@@ -19,6 +23,7 @@ public class ServerController {
     private Button startServerButton; // Button to start the server
 
     private PokerServer pokerServer; // The PokerServer instance
+    private ServerLogObserver serverLog; // Collects the server's events for the game log
     private Stage primaryStage; // Reference to the primary UI window
 
     // Allows the main application to set the primary stage for scene transitions
@@ -35,24 +40,27 @@ public class ServerController {
     private void handleStartServer() {
         try {
             int port = Integer.parseInt(portField.getText().trim()); // Parse port number
-            System.out.println("[DEBUG] Start Server button clicked. Port: " + port);
+            LOG.debug("Start Server button clicked. Port: " + port);
+
+            // Attach the UI to the server before it starts, so the startup events are shown
+            pokerServer = new PokerServer();
+            serverLog = new ServerLogObserver();
+            pokerServer.addListener(serverLog);
 
             // Start the server on a separate thread to prevent UI blocking
-            Thread serverThread = new Thread(() -> {
-                pokerServer = new PokerServer();
-                pokerServer.startServer(port);
-            });
+            PokerServer server = pokerServer;
+            Thread serverThread = new Thread(() -> server.startServer(port));
             serverThread.setDaemon(true); // Ensures the server thread stops when the app exits
             serverThread.start();
 
             // Transition to the game state screen after starting the server
             Platform.runLater(() -> {
-                System.out.println("[DEBUG] Switching to Game State screen...");
+                LOG.debug("Switching to Game State screen...");
                 showGameStateScreen();
             });
 
         } catch (NumberFormatException e) {
-            System.err.println("[ERROR] Invalid port number. Please enter a valid integer.");
+            LOG.error("Invalid port number. Please enter a valid integer.");
         }
     }
 
@@ -63,7 +71,7 @@ public class ServerController {
     private void showGameStateScreen() {
         try {
             if (primaryStage == null) {
-                System.err.println("[ERROR] primaryStage is null. Cannot switch scenes.");
+                LOG.error("primaryStage is null. Cannot switch scenes.");
                 return;
             }
 
@@ -73,7 +81,7 @@ public class ServerController {
 
             // Set the controller for the game state screen and pass the server instance
             GameStateController controller = loader.getController();
-            controller.setServerInstance(pokerServer);
+            controller.setServerInstance(pokerServer, serverLog);
 
             // Switch to the new scene
             Scene scene = new Scene(root);
@@ -81,9 +89,9 @@ public class ServerController {
             primaryStage.setTitle("Poker Server - Game State");
             primaryStage.show();
 
-            System.out.println("[DEBUG] Successfully switched to Game State Screen.");
+            LOG.debug("Successfully switched to Game State Screen.");
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.error("Failed to load the game state screen.", e);
             showError("Error", "Failed to load the game state screen.");
         }
     }
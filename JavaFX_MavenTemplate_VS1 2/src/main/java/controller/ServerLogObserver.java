@@ -0,0 +1,89 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import server.GameEventLog;
+import server.ServerListener;
+
+/**
+ * Feeds a PokerServer's game events to the admin UI.
+ * Attached to the server as a listener, it only records each event in a bounded
+ * GameEventLog, so game threads never queue work on the JavaFX application thread.
+ * Once started, it samples that log at most once per animation pulse and adds whatever
+ * arrived since the last pulse to the list in one batch. The list never holds more events
+ * than the log keeps, so memory stays the same under any event rate.
+ */
+public class ServerLogObserver implements ServerListener {
+    private final GameEventLog events = new GameEventLog();
+    private final ObservableList<String> log = FXCollections.observableArrayList();
+    private final List<String> batch = new ArrayList<>(); // Reused every pulse
+    private long position; // Where the last pulse stopped reading events
+    private Runnable onUpdate = () -> { };
+    private AnimationTimer pulse; // Created on the JavaFX application thread by start
+
+    @Override
+    public void onGameEvent(String message) {
+        events.onGameEvent(message);
+    }
+
+    /**
+     * Starts sampling the events once per animation pulse. Call on the JavaFX application thread.
+     */
+    public void start() {
+        if (pulse == null) {
+            pulse = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    sample();
+                }
+            };
+        }
+        pulse.start();
+    }
+
+    /**
+     * Stops sampling; events keep being recorded and are shown once started again.
+     */
+    public void stop() {
+        if (pulse != null) {
+            pulse.stop();
+        }
+    }
+
+    /**
+     * @param onUpdate run on the JavaFX application thread after each pulse that added events
+     */
+    public void setOnUpdate(Runnable onUpdate) {
+        this.onUpdate = onUpdate;
+    }
+
+    /**
+     * @return the most recent events, changed only on the JavaFX application thread
+     */
+    public ObservableList<String> getLog() {
+        return log;
+    }
+
+    // Moves the events that arrived since the last pulse into the list, dropping the oldest
+    private void sample() {
+        batch.clear();
+        position = events.readSince(position, batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        int overflow = log.size() + batch.size() - events.capacity();
+        if (overflow >= log.size()) {
+            log.setAll(batch); // The batch replaces everything shown
+        } else {
+            if (overflow > 0) {
+                log.remove(0, overflow);
+            }
+            log.addAll(batch);
+        }
+        onUpdate.run();
+    }
+}
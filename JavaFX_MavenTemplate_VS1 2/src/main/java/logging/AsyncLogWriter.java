@@ -0,0 +1,205 @@
+package logging;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background thread that drains the log ring buffer and does all of the formatting and I/O.
+ * Game threads only publish into the buffer; this thread writes to the console and,
+ * if configured, to a rotating log file, flushing whenever the buffer runs dry.
+ * Once the buffer is empty the thread parks until a publisher wakes it, so an idle server
+ * costs nothing; publishers only pay for the wakeup when the thread is actually parked.
+ * Unless told otherwise, it shuts itself down from a JVM shutdown hook; a program that logs
+ * from its own hook turns that off and calls shutdown last.
+ */
+final class AsyncLogWriter implements Runnable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final LogRingBuffer buffer;
+    private final boolean console;
+    private final RollingFileWriter file;
+    private final StringBuilder line = new StringBuilder(256);
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean parked; // Set while the thread is about to park or parked
+    private volatile long flushed; // Buffer position up to which output has been flushed
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private long reportedDrops;
+
+    AsyncLogWriter(int capacity, boolean console, RollingFileWriter file, boolean shutdownHook) {
+        this.buffer = new LogRingBuffer(capacity);
+        this.console = console;
+        this.file = file;
+        this.thread = new Thread(this, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        if (shutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "log-writer-shutdown"));
+        }
+    }
+
+    /**
+     * Queues an event for writing; never blocks.
+     *
+     * @return false if the buffer was full and the event was dropped
+     */
+    boolean publish(LogLevel level, String logger, String message, Throwable error) {
+        if (!buffer.offer(level, logger, message, error)) {
+            return false;
+        }
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every event published before this call has been written and flushed.
+     *
+     * @param timeoutMillis how long to wait at most
+     * @return true if the output caught up within the timeout
+     */
+    boolean flush(long timeoutMillis) {
+        long target = buffer.published();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (flushed < target) {
+            if (!thread.isAlive() || System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of events dropped because the buffer was full
+     */
+    long dropped() {
+        return buffer.dropped();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (buffer.drain(this::write) == 0) {
+                    idle();
+                    parked = true;
+                    // A publisher that claimed a slot before seeing parked is drained instead
+                    if (running && buffer.published() == buffer.consumed()) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                }
+            }
+        } finally {
+            finish();
+        }
+    }
+
+    // Writes what is left and closes the file; on this thread only, the buffer's one consumer
+    private void finish() {
+        buffer.drain(this::write);
+        idle();
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                System.err.println("Could not close log file: " + e.getMessage());
+            }
+        }
+    }
+
+    // Reports drops and flushes output once the buffer is empty
+    private void idle() {
+        long drops = buffer.dropped();
+        if (drops > reportedDrops) {
+            emit(LogLevel.WARN, format(System.currentTimeMillis(), LogLevel.WARN, thread.getName(), "logging",
+                    (drops - reportedDrops) + " log events dropped because the buffer was full", null));
+            reportedDrops = drops;
+        }
+        long position = buffer.consumed();
+        if (flushed < position) {
+            if (console) {
+                System.out.flush();
+                System.err.flush();
+            }
+            if (file != null) {
+                try {
+                    file.flush();
+                } catch (IOException e) {
+                    System.err.println("Could not flush log file: " + e.getMessage());
+                }
+            }
+            flushed = position;
+        }
+    }
+
+    /**
+     * Stops the thread, which first writes whatever is still buffered and closes the file.
+     * Waits up to a second for that; a thread still busy then finishes on its own. Events
+     * published afterwards are not written. Only the first call has any effect.
+     */
+    void shutdown() {
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            System.err.println("Log writer did not stop within a second; it finishes writing on its own.");
+        }
+    }
+
+    private void write(LogRecord record) {
+        emit(record.level, format(record.timeMillis, record.level, record.thread, record.logger,
+                record.message, record.error));
+    }
+
+    private void emit(LogLevel level, String text) {
+        if (console) {
+            PrintStream stream = level.compareTo(LogLevel.WARN) >= 0 ? System.err : System.out;
+            stream.println(text);
+        }
+        if (file != null) {
+            try {
+                file.writeLine(text);
+            } catch (IOException e) {
+                System.err.println("Could not write log file: " + e.getMessage());
+            }
+        }
+    }
+
+    private String format(long timeMillis, LogLevel level, String threadName, String logger,
+                          String message, Throwable error) {
+        line.setLength(0);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(timeMillis), line);
+        line.append(' ').append(level);
+        for (int pad = level.name().length(); pad < 5; pad++) {
+            line.append(' ');
+        }
+        line.append(" [").append(threadName).append("] ").append(logger).append(" - ").append(message);
+        if (error != null) {
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package logging;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Entry point of the asynchronous logging pipeline.
+ * Loggers publish into a lock-free ring buffer that a single background thread drains to the
+ * console and an optional rotating file, so game threads never wait on I/O.
+ *
+ * Configured by system properties:
+ * "poker.log.level" (DEBUG, INFO, WARN or ERROR; default INFO),
+ * "poker.log.file" (log file path; default none),
+ * "poker.log.maxBytes" (size at which the file rotates; default 10 MB),
+ * "poker.log.maxFiles" (rotated files kept; default 5),
+ * "poker.log.rateLimit" (events per second per logger, 0 for no limit; default 0),
+ * "poker.log.bufferSize" (ring buffer slots; default 8192),
+ * "poker.log.console" (write to stdout and stderr; default true) and
+ * "poker.log.shutdownHook" (write out and close the log when the JVM exits; default true).
+ * A program that still logs while it shuts down sets the last one to false and calls
+ * shutdown itself once done, since JVM shutdown hooks run in no set order.
+ */
+public final class Log {
+    // System property that turns off the writer's own shutdown hook
+    public static final String SHUTDOWN_HOOK_PROPERTY = "poker.log.shutdownHook";
+
+    private static final ConcurrentMap<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+
+    private Log() {
+    }
+
+    /**
+     * Gets the logger named after a class.
+     *
+     * @param type the class that logs
+     * @return the shared logger for that class
+     */
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getSimpleName());
+    }
+
+    /**
+     * Gets a logger by name.
+     *
+     * @param name the logger name
+     * @return the shared logger with that name
+     */
+    public static Logger getLogger(String name) {
+        return LOGGERS.computeIfAbsent(name,
+                key -> new Logger(key, Config.LEVEL, Config.RATE_LIMIT, Config.WRITER));
+    }
+
+    /**
+     * Waits up to a few seconds for every event logged so far to be written.
+     *
+     * @return true if the output caught up
+     */
+    public static boolean flush() {
+        return Config.WRITER.flush(5000);
+    }
+
+    /**
+     * Writes every event logged so far, closes the log file and stops the writer thread.
+     * Events logged afterwards are dropped. Calling it again does nothing.
+     */
+    public static void shutdown() {
+        Config.WRITER.shutdown();
+    }
+
+    /**
+     * @return the number of events dropped so far because the ring buffer was full
+     */
+    public static long droppedEvents() {
+        return Config.WRITER.dropped();
+    }
+
+    // Reads the configuration and starts the writer the first time a logger is used
+    private static final class Config {
+        static final LogLevel LEVEL = LogLevel.parse(System.getProperty("poker.log.level"), LogLevel.INFO);
+        static final int RATE_LIMIT = Integer.getInteger("poker.log.rateLimit", 0);
+        static final AsyncLogWriter WRITER = new AsyncLogWriter(
+                Integer.getInteger("poker.log.bufferSize", 8192),
+                Boolean.parseBoolean(System.getProperty("poker.log.console", "true")),
+                openFile(),
+                Boolean.parseBoolean(System.getProperty(SHUTDOWN_HOOK_PROPERTY, "true")));
+
+        private static RollingFileWriter openFile() {
+            String path = System.getProperty("poker.log.file");
+            if (path == null || path.isBlank()) {
+                return null;
+            }
+            try {
+                return new RollingFileWriter(Paths.get(path),
+                        Long.getLong("poker.log.maxBytes", 10L * 1024 * 1024),
+                        Integer.getInteger("poker.log.maxFiles", 5));
+            } catch (IOException e) {
+                System.err.println("Could not open log file " + path + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package logging;
+
+/**
+ * Severity of a log event, lowest first.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param name the level name, such as "info"
+     * @param fallback the level to use if the name is null or unknown
+     * @return the matching level, or the fallback
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(name.trim())) {
+                return level;
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,21 @@
+package logging;
+
+/**
+ * One slot of the log ring buffer.
+ * Slots are allocated once and reused, so publishing an event only copies references.
+ */
+final class LogRecord {
+    LogLevel level;
+    String logger;
+    String message;
+    Throwable error;
+    String thread;
+    long timeMillis;
+
+    void clear() {
+        logger = null;
+        message = null;
+        error = null;
+        thread = null;
+    }
+}
@@ -0,0 +1,114 @@
+package logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue of log records with many producers and a single consumer.
+ * Producers claim a slot with one compare-and-set on the tail and never wait: when the
+ * buffer is full the event is dropped and counted instead.
+ * Each slot carries a sequence number that tells producers and the consumer whose turn it is.
+ */
+final class LogRingBuffer {
+    private final int mask;
+    private final LogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head; // Written only by the consumer
+
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1; // Round up to a power of two
+        mask = size - 1;
+        records = new LogRecord[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            records[i] = new LogRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes an event, or drops it if the buffer is full.
+     *
+     * @return true if the event was queued
+     */
+    boolean offer(LogLevel level, String logger, String message, Throwable error) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                dropped.incrementAndGet(); // The consumer has not freed this slot yet
+                return false;
+            }
+        }
+
+        LogRecord record = records[index];
+        record.level = level;
+        record.logger = logger;
+        record.message = message;
+        record.error = error;
+        record.thread = Thread.currentThread().getName();
+        record.timeMillis = System.currentTimeMillis();
+        sequences.lazySet(index, position + 1); // Hand the slot to the consumer
+        return true;
+    }
+
+    /**
+     * Passes every published record to the consumer in order and frees its slot.
+     * Must only be called from the consumer thread.
+     *
+     * @return the number of records drained
+     */
+    int drain(Consumer<LogRecord> consumer) {
+        long position = head;
+        int count = 0;
+        while (true) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break; // Not yet published
+            }
+            LogRecord record = records[index];
+            consumer.accept(record);
+            record.clear();
+            sequences.lazySet(index, position + mask + 1); // Hand the slot back to producers
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * @return the position after the last claimed slot
+     */
+    long published() {
+        return tail.get();
+    }
+
+    /**
+     * @return the position after the last drained slot
+     */
+    long consumed() {
+        return head;
+    }
+
+    /**
+     * @return the number of events dropped so far because the buffer was full
+     */
+    long dropped() {
+        return dropped.get();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,79 @@
+package logging;
+
+/**
+ * Named source of log events.
+ * Logging never blocks the caller: events below the level threshold are discarded, events
+ * beyond the logger's rate limit are counted and reported later, and the rest are handed to
+ * the background log writer. Errors are never rate limited.
+ */
+public final class Logger {
+    private final String name;
+    private final LogLevel threshold;
+    private final RateLimiter limiter;
+    private final AsyncLogWriter writer;
+
+    Logger(String name, LogLevel threshold, int permitsPerSecond, AsyncLogWriter writer) {
+        this.name = name;
+        this.threshold = threshold;
+        this.limiter = new RateLimiter(permitsPerSecond);
+        this.writer = writer;
+    }
+
+    /**
+     * @return the name shown with this logger's events
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks a level before building an expensive message.
+     *
+     * @param level the level to check
+     * @return true if events at that level are written
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message, null);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message, null);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message, null);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        log(LogLevel.ERROR, message, error);
+    }
+
+    /**
+     * Queues an event for the background writer.
+     *
+     * @param level the event's level
+     * @param message the event text
+     * @param error an exception whose stack trace is written with the event, or null
+     */
+    public void log(LogLevel level, String message, Throwable error) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (level != LogLevel.ERROR && !limiter.tryAcquire()) {
+            return;
+        }
+        long suppressed = limiter.takeSuppressed();
+        if (suppressed > 0) {
+            writer.publish(LogLevel.WARN, name, suppressed + " events suppressed by the rate limit", null);
+        }
+        writer.publish(level, name, message, error);
+    }
+}
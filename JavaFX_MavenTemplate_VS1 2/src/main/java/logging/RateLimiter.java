@@ -0,0 +1,70 @@
+package logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free limit on the number of events allowed per one-second window.
+ * The window and its count share one atomic long, so a permit costs one compare-and-set.
+ */
+public final class RateLimiter {
+    private static final long NANOS_PER_WINDOW = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong state = new AtomicLong(); // Window number in the high bits, count in the low 32
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond events allowed per second; 0 or less allows every event
+     */
+    public RateLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Takes a permit for the current second.
+     *
+     * @return true if the event may go ahead, false if it should be suppressed
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Takes a permit for the window containing the given time.
+     *
+     * @param nanoTime a System.nanoTime value
+     * @return true if the event may go ahead, false if it should be suppressed
+     */
+    public boolean tryAcquire(long nanoTime) {
+        if (permitsPerSecond <= 0) {
+            return true;
+        }
+        long window = nanoTime / NANOS_PER_WINDOW;
+        while (true) {
+            long current = state.get();
+            long currentWindow = current >>> 32;
+            int count = (int) current;
+            long next;
+            if (currentWindow != (window & 0xFFFFFFFFL)) {
+                next = (window << 32) | 1;
+            } else if (count < permitsPerSecond) {
+                next = current + 1;
+            } else {
+                suppressed.incrementAndGet();
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns and resets the number of events suppressed since the last call.
+     *
+     * @return the suppressed event count
+     */
+    public long takeSuppressed() {
+        return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+    }
+}
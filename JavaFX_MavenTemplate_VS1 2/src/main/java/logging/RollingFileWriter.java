@@ -0,0 +1,100 @@
+package logging;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends lines to a log file and rotates it once it reaches a size limit.
+ * On rotation "server.log" becomes "server.log.1", "server.log.1" becomes "server.log.2",
+ * and so on; the oldest file beyond the backup limit is deleted.
+ * Not thread-safe: the log writer thread is its only user.
+ */
+public final class RollingFileWriter implements Closeable {
+    private final Path file;
+    private final long maxBytes;
+    private final int maxBackups;
+    private BufferedWriter writer;
+    private long size;
+
+    /**
+     * @param file the active log file
+     * @param maxBytes the size at which the file is rotated
+     * @param maxBackups how many rotated files to keep
+     * @throws IOException if the file cannot be opened
+     */
+    public RollingFileWriter(Path file, long maxBytes, int maxBackups) throws IOException {
+        if (maxBytes <= 0 || maxBackups < 0) {
+            throw new IllegalArgumentException("Log file size must be positive and backups non-negative.");
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxBackups = maxBackups;
+        open();
+    }
+
+    /**
+     * Appends one line, rotating first if the line would take the file past its limit.
+     *
+     * @param line the text to write, without a line separator
+     * @throws IOException if the file cannot be written or rotated
+     */
+    public void writeLine(String line) throws IOException {
+        long lineBytes = line.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+        if (size > 0 && size + lineBytes > maxBytes) {
+            rotate();
+        }
+        writer.write(line);
+        writer.newLine();
+        size += lineBytes;
+    }
+
+    /**
+     * Writes buffered lines to the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        if (maxBackups == 0) {
+            Files.delete(file);
+        } else {
+            Files.deleteIfExists(backup(maxBackups));
+            for (int i = maxBackups - 1; i >= 1; i--) {
+                if (Files.exists(backup(i))) {
+                    Files.move(backup(i), backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    private Path backup(int number) {
+        return file.resolveSibling(file.getFileName() + "." + number);
+    }
+}
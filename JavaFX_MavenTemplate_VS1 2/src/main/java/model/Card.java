@@ -1,16 +1,28 @@
 package model;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Map;
 
+import logging.Log;
+import logging.LogLevel;
+import logging.Logger;
+
+/**
+ * An immutable playing card.
+ * The 52 cards of a standard deck exist once each and are shared through Card.of, and
+ * deserialization resolves to the same shared instances, so cards dealt by the server can
+ * be compared by identity.
+ */
 public class Card implements Serializable {
     private static final long serialVersionUID = 1L; 
+    private static final Logger LOG = Log.getLogger(Card.class);
 
     // Represents the suit of the card (Clubs, Diamonds, Hearts, Spades)
-    private char suit; /* Valid values: ‘C’, ‘D’, ’S’, ‘H’ */
+    private final char suit; /* Valid values: ‘C’, ‘D’, ’S’, ‘H’ */
 
     // Represents the value of the card (2 to 14, where 11-14 correspond to Jack, Queen, King, Ace)
-    private int value;
+    private final int value;
 
     // Mapping of face card values (Jack, Queen, King, Ace) to their string equivalents
     private static final Map<Integer, String> FACE_VALUES = Map.of(
@@ -36,8 +48,32 @@ public class Card implements Serializable {
             11, "j"    // Jack
     );
 
+    // The shared instance of every card, indexed by CardCodec code
+    private static final Card[] CANONICAL = new Card[CardCodec.DECK_SIZE];
+
+    static {
+        for (char suit : new char[] {'C', 'D', 'H', 'S'}) {
+            for (int value = 2; value <= 14; value++) {
+                CANONICAL[CardCodec.encode(suit, value)] = new Card(suit, value);
+            }
+        }
+    }
+
+    /**
+     * Gets the shared instance of a card.
+     *
+     * @param suit the suit of the card ('C', 'D', 'H', 'S')
+     * @param value the value of the card (2 to 14, where 11-14 are face cards)
+     * @return the shared card with that suit and value
+     * @throws IllegalArgumentException if the suit or value is invalid
+     */
+    public static Card of(char suit, int value) {
+        return CANONICAL[CardCodec.encode(suit, value)];
+    }
+
     /**
      * Constructor to initialize a card with a specific suit and value.
+     * Prefer Card.of, which returns the shared instance instead of a new copy.
      * 
      * @param suit the suit of the card ('C', 'D', 'H', 'S')
      * @param value the value of the card (2 to 14, where 11-14 are face cards)
@@ -106,6 +142,36 @@ public class Card implements Serializable {
         }
     }
 
+    /**
+     * Replaces a deserialized card with the shared instance of the same card.
+     *
+     * @return the shared card with this card's suit and value
+     * @throws ObjectStreamException never; declared as required for readResolve
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return of(suit, value);
+    }
+
+    /**
+     * Cards are equal when they have the same suit and value.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Card)) {
+            return false;
+        }
+        Card card = (Card) other;
+        return suit == card.suit && value == card.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return CardCodec.encode(this);
+    }
+
     /**
      * Converts the card to a string representation (e.g., "Ace of Spades").
      * 
@@ -135,7 +201,7 @@ public class Card implements Serializable {
         // Ensure suit is mapped and converted to lowercase
         String suitCode = SUIT_CODES.get(suit);
         if (suitCode == null) {
-            System.err.println("Error: No suit code found for suit " + suit);
+            LOG.error("No suit code found for suit " + suit);
             suitCode = String.valueOf(suit).toLowerCase(); // Fallback to lowercase suit
         }
 
@@ -151,7 +217,9 @@ public class Card implements Serializable {
         String path = "/views/cards/simple_" + suitCode + "_" + valueCode + ".png";
 
         // Debugging statement to verify correct values
-        System.out.println("Generated Image Path: " + path + " | Suit: " + suitCode + " | Value: " + valueCode);
+        if (LOG.isEnabled(LogLevel.DEBUG)) {
+            LOG.debug("Generated Image Path: " + path + " | Suit: " + suitCode + " | Value: " + valueCode);
+        }
 
         return path;
     }
@@ -171,7 +239,7 @@ public class Card implements Serializable {
         String path = "/cards/Sparky.jpeg";
 
         // Debugging statement for logging the card back path
-        System.out.println("Loading card back image: " + path);
+        LOG.debug("Loading card back image: " + path);
 
         return path;
     }
@@ -0,0 +1,91 @@
+package model;
+
+/**
+ * Encodes playing cards as primitive ints from 0 to 51 so that hot paths can work with
+ * cards without touching Card objects.
+ * Codes are suit-major in the order Clubs, Diamonds, Hearts, Spades, with the deuce as
+ * the lowest value of each suit: code = suitIndex * 13 + (value - 2).
+ */
+public final class CardCodec {
+
+    // Number of distinct card codes
+    public static final int DECK_SIZE = 52;
+
+    // Suit characters in code order
+    private static final char[] SUITS = {'C', 'D', 'H', 'S'};
+
+    private CardCodec() {
+    }
+
+    /**
+     * Encodes a suit and value as a card code.
+     *
+     * @param suit the suit of the card ('C', 'D', 'H', 'S')
+     * @param value the value of the card (2 to 14)
+     * @return the card code (0 to 51)
+     * @throws IllegalArgumentException if the suit or value is invalid
+     */
+    public static int encode(char suit, int value) {
+        int suitIndex = suitIndex(suit);
+        if (value < 2 || value > 14) {
+            throw new IllegalArgumentException("Invalid value. Must be between 2 and 14.");
+        }
+        return suitIndex * 13 + (value - 2);
+    }
+
+    /**
+     * Encodes a card as a card code.
+     *
+     * @param card the card to encode
+     * @return the card code (0 to 51)
+     */
+    public static int encode(Card card) {
+        return suitIndex(card.getSuit()) * 13 + (card.getValue() - 2);
+    }
+
+    /**
+     * Gets the suit of a card code.
+     *
+     * @param code the card code
+     * @return the suit character ('C', 'D', 'H', 'S')
+     */
+    public static char suit(int code) {
+        return SUITS[code / 13];
+    }
+
+    /**
+     * Gets the value of a card code.
+     *
+     * @param code the card code
+     * @return the card's value (2 to 14)
+     */
+    public static int value(int code) {
+        return code % 13 + 2;
+    }
+
+    /**
+     * Converts a card code back to a Card.
+     *
+     * @param code the card code
+     * @return the shared instance of the matching card
+     */
+    public static Card toCard(int code) {
+        return Card.of(suit(code), value(code));
+    }
+
+    // Maps a suit character to its position in the code order
+    private static int suitIndex(char suit) {
+        switch (suit) {
+            case 'C':
+                return 0;
+            case 'D':
+                return 1;
+            case 'H':
+                return 2;
+            case 'S':
+                return 3;
+            default:
+                throw new IllegalArgumentException("Invalid suit. Must be 'C', 'D', 'H', or 'S'.");
+        }
+    }
+}
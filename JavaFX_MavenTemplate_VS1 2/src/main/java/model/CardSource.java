@@ -0,0 +1,44 @@
+package model;
+
+/**
+ * Something a Dealer deals cards from: a single deck, a multi-deck shoe, or a continuous
+ * shuffling machine. Cards are dealt as CardCodec codes so that sources need no per-card
+ * objects.
+ */
+public interface CardSource {
+
+    /**
+     * Deals one card.
+     *
+     * @return the code of the card dealt
+     * @throws IllegalStateException if no cards are left
+     */
+    int dealCode();
+
+    /**
+     * Deals one card.
+     *
+     * @return the shared instance of the card dealt
+     * @throws IllegalStateException if no cards are left
+     */
+    default Card deal() {
+        return CardCodec.toCard(dealCode());
+    }
+
+    /**
+     * @return the number of cards that can be dealt before the source must be shuffled
+     */
+    int size();
+
+    /**
+     * Gathers every card back in and shuffles.
+     */
+    void shuffle();
+
+    /**
+     * Called once the cards of a finished round have been collected. A continuous shuffler
+     * puts them straight back into play; other sources keep them out until the next shuffle.
+     */
+    default void endRound() {
+    }
+}
@@ -1,22 +1,44 @@
 package model;
 
-import java.util.ArrayList;
+import java.util.List;
+
+import logging.Log;
+import logging.LogLevel;
+import logging.Logger;
 
 public class Dealer  {
-    private Deck theDeck; // The deck of cards
-    private ArrayList<Card> dealersHand; // Stores the dealer's current hand
+    private final CardSource theDeck; // The deck, shoe or shuffling machine dealt from
+    private Hand dealersHand; // Stores the dealer's current hand
     private static final int MINIMUM_CARDS = 3; // Minimum cards required to deal a hand
+    private static final Logger LOG = Log.getLogger(Dealer.class);
 
     // Constructor to initialize the deck and dealer's hand
     public Dealer() {
-        theDeck = new Deck(); // Create a new deck
-        theDeck.newDeck();    // Populate and shuffle the deck
-        dealersHand = new ArrayList<>();
+        this(Shoe.configured()); // Single pooled deck unless the server configures a shoe
+    }
+
+    /**
+     * Creates a dealer that takes its decks from the given pool.
+     *
+     * @param deckPool the pool of pre-shuffled decks
+     */
+    public Dealer(DeckPool deckPool) {
+        this(deckPool.cardSource());
+    }
+
+    /**
+     * Creates a dealer that deals from the given deck, shoe or shuffling machine.
+     *
+     * @param source the cards to deal from
+     */
+    public Dealer(CardSource source) {
+        theDeck = source;
+        dealersHand = Hand.EMPTY;
     }
 
 
     
-//    public ArrayList<Card> dealHand() {
+//    public Hand dealHand() {
 //        ArrayList<Card> hand = new ArrayList<>();
 //        for (int i = 0; i < MINIMUM_CARDS; i++) {
 //            if (!theDeck.isEmpty()) {
@@ -29,32 +51,37 @@ public class Dealer  {
 //        return hand;
 //    }
     
-    public ArrayList<Card> dealHand() {
-        // If the deck is too small to deal, create a new shuffled deck
-        if (theDeck.size() < 3) {
-            System.out.println("Deck is empty or too small. Reshuffling...");
-            theDeck.newDeck(); // Create and shuffle a new deck
+    public Hand dealHand() {
+        // If the deck is too small to deal, or the cut card has come out, shuffle
+        if (theDeck.size() < MINIMUM_CARDS) {
+            LOG.info("Deck is empty or too small. Reshuffling...");
+            theDeck.shuffle();
         }
 
-        // Deal 3 cards
-        ArrayList<Card> hand = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            if (theDeck.size() > 0) { // Ensure we don't remove from an empty deck
-                hand.add(theDeck.remove(0));
-            }
-        }
+        // Deal 3 cards straight into a packed hand
+        Hand hand = Hand.of(PackedHand.of(theDeck.dealCode(), theDeck.dealCode(), theDeck.dealCode()));
 
-        System.out.println("Dealt hand: " + hand);
+        if (LOG.isEnabled(LogLevel.DEBUG)) {
+            LOG.debug("Dealt hand: " + hand);
+        }
         return hand;
     }
 
 
-    public void setDealersHand(ArrayList<Card> hand) {
-        this.dealersHand = new ArrayList<>(hand); // Store a copy of the dealer's hand
+    /**
+     * Collects the cards of the finished round. A continuous shuffler puts them back in
+     * play; a deck or finite shoe keeps them out until its next shuffle.
+     */
+    public void endRound() {
+        theDeck.endRound();
+    }
+
+    public void setDealersHand(List<Card> hand) {
+        this.dealersHand = Hand.of(hand); // Hands are immutable, so no copy is needed
     }
 
-    public ArrayList<Card> getDealersHand() {
-        return new ArrayList<>(dealersHand); // Return a copy of the dealer's hand
+    public Hand getDealersHand() {
+        return dealersHand; // Safe to share because a Hand cannot be modified
     }
 
 }
@@ -1,41 +1,169 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
 
 /**
  * Represents a deck of cards for use in the game.
- * This class extends ArrayList<Card>, making it a dynamic collection of cards with additional behavior.
+ * The deck holds the 52 card codes in a fixed array and deals from a cursor, so dealing a card
+ * and reshuffling both work in place without allocating. Dealt cards cannot be put back;
+ * callers reshuffle with newDeck instead.
  */
-public class Deck extends ArrayList<Card> {
+public class Deck implements Iterable<Card>, CardSource {
+
+    private final int[] cards = new int[CardCodec.DECK_SIZE]; // Card codes in deal order
+    private final DeckRandom random; // Shuffles this deck
+    private int cursor; // Position of the next card to deal
 
     /**
      * Constructor for the Deck class.
      * Automatically initializes the deck by creating a new set of shuffled cards.
      */
     public Deck() {
+        this(DeckRandom.fast());
+    }
+
+    /**
+     * Creates a shuffled deck whose shuffles are reproducible from a seed.
+     *
+     * @param seed the seed of the deck's random stream
+     */
+    public Deck(long seed) {
+        this(DeckRandom.seeded(seed));
+    }
+
+    /**
+     * Creates a shuffled deck that shuffles with a SplittableRandom, which it then owns.
+     *
+     * @param random the random stream to shuffle with
+     */
+    public Deck(SplittableRandom random) {
+        this(DeckRandom.of(random));
+    }
+
+    /**
+     * Creates a shuffled deck that draws its shuffles from the given random stream.
+     * The deck takes ownership of the stream; it must not be shared with other threads.
+     *
+     * @param random the random stream to shuffle with
+     */
+    public Deck(DeckRandom random) {
+        this.random = random;
+        for (int code = 0; code < cards.length; code++) {
+            cards[code] = code;
+        }
         newDeck(); // Populate and shuffle the deck immediately upon creation
     }
 
     /**
-     * Resets the deck to a full standard 52-card set and shuffles it.
-     * Clears any existing cards, generates cards for all suits and values, and shuffles the deck.
+     * Returns every card to the deck and shuffles it.
+     * Uses an in-place Fisher-Yates shuffle of the card codes, so no cards are created.
      */
     public void newDeck() {
-        this.clear(); // Remove all existing cards from the deck
-        
-        // Define the four suits: Clubs, Diamonds, Hearts, Spades
-        List<Character> suits = List.of('C', 'D', 'H', 'S');
-        
-        // Loop through each suit and create cards for values 2 through 14 (inclusive)
-        suits.forEach(suit -> {
-            for (int value = 2; value <= 14; value++) {
-                this.add(new Card(suit, value)); // Add a new card to the deck
+        shuffleTop(cards.length - 1);
+    }
+
+    /**
+     * Returns every card to the deck and shuffles it; the same as newDeck.
+     */
+    @Override
+    public void shuffle() {
+        newDeck();
+    }
+
+    /**
+     * Returns every card to the deck and shuffles only as far as needed to deal a number of
+     * cards: the first count cards are a uniformly random draw, and the order of the rest is
+     * unspecified. Cheaper than newDeck when only a few cards will be dealt.
+     *
+     * @param count how many cards will be dealt from the top
+     */
+    public void shuffleTop(int count) {
+        int limit = Math.min(count, cards.length - 1);
+        for (int i = 0; i < limit; i++) {
+            int j = i + random.nextInt(cards.length - i);
+            int swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+        cursor = 0;
+    }
+
+    /**
+     * @return the number of cards left to deal
+     */
+    @Override
+    public int size() {
+        return cards.length - cursor;
+    }
+
+    /**
+     * @return true if every card has been dealt
+     */
+    public boolean isEmpty() {
+        return cursor == cards.length;
+    }
+
+    /**
+     * Deals the top card.
+     *
+     * @return the card dealt
+     * @throws IllegalStateException if the deck is empty
+     */
+    @Override
+    public Card deal() {
+        return CardCodec.toCard(dealCode());
+    }
+
+    /**
+     * Deals the top card as a CardCodec code.
+     *
+     * @return the code of the card dealt
+     * @throws IllegalStateException if the deck is empty
+     */
+    @Override
+    public int dealCode() {
+        if (cursor == cards.length) {
+            throw new IllegalStateException("Deck is empty. Cannot deal more cards.");
+        }
+        return cards[cursor++];
+    }
+
+    /**
+     * Looks at a card still in the deck without dealing it.
+     *
+     * @param index the position among the remaining cards, 0 being the next card dealt
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the index is not below size()
+     */
+    public Card get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size() + " cards");
+        }
+        return CardCodec.toCard(cards[cursor + index]);
+    }
+
+    /**
+     * Iterates over the cards left to deal, in deal order, without dealing them.
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private int position = cursor;
+
+            @Override
+            public boolean hasNext() {
+                return position < cards.length;
+            }
+
+            @Override
+            public Card next() {
+                if (position >= cards.length) {
+                    throw new NoSuchElementException();
+                }
+                return CardCodec.toCard(cards[position++]);
             }
-        });
-        
-        // Shuffle the deck to randomize card order
-        Collections.shuffle(this);
+        };
     }
 }
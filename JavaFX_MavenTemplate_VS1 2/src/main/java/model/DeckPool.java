@@ -0,0 +1,173 @@
+package model;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Bounded pool of decks that a background thread keeps shuffled ahead of time, so that
+ * dealing a round only takes a ready deck and never waits for a shuffle.
+ * Used decks handed back with release are reshuffled in place and reused, so the pool stops
+ * allocating once it is warm. If the pool is empty, take shuffles a deck on the caller's
+ * thread instead of waiting.
+ *
+ * Every deck owns a random stream split from the pool's source, so a deck taken from the
+ * pool can also be reshuffled by its holder.
+ */
+public final class DeckPool implements AutoCloseable {
+    private static final Logger LOG = Log.getLogger(DeckPool.class);
+
+    // System property that sets the number of ready decks in the shared pool
+    public static final String SIZE_PROPERTY = "poker.deckPool.size";
+
+    private final BlockingQueue<Deck> ready; // Shuffled decks waiting to be dealt
+    private final BlockingQueue<Deck> returned; // Used decks waiting to be reshuffled
+    private final DeckRandom producerRandom; // Owned by the producer thread
+    private final DeckRandom fallbackRandom; // Guarded by this pool
+    private final Thread producer;
+    private final AtomicLong fallbacks = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * Creates a pool and starts its producer thread.
+     *
+     * @param capacity the number of shuffled decks to keep ready
+     * @param random the source that every deck's random stream is split from
+     */
+    public DeckPool(int capacity, DeckRandom random) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Deck pool capacity must be at least 1.");
+        }
+        this.ready = new ArrayBlockingQueue<>(capacity);
+        this.returned = new ArrayBlockingQueue<>(capacity);
+        this.fallbackRandom = random.split();
+        this.producerRandom = random;
+        this.producer = new Thread(this::produce, "deck-shuffler");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Gets the pool shared by every dealer on this server, starting it on first use.
+     * Its size comes from "poker.deckPool.size" and its shuffle source from "poker.shuffle".
+     *
+     * @return the shared pool
+     */
+    public static DeckPool shared() {
+        return Shared.POOL;
+    }
+
+    /**
+     * Takes a shuffled, full deck, shuffling one on the caller's thread if none is ready.
+     *
+     * @return a deck that now belongs to the caller
+     */
+    public Deck take() {
+        Deck deck = ready.poll();
+        if (deck != null) {
+            return deck;
+        }
+
+        fallbacks.incrementAndGet();
+        DeckRandom random;
+        synchronized (this) {
+            random = fallbackRandom.split();
+        }
+        return new Deck(random);
+    }
+
+    /**
+     * Hands a used deck back to be reshuffled and reused. The caller must not touch the
+     * deck afterwards. Decks beyond what the pool can hold are left to the garbage collector.
+     *
+     * @param deck the deck to recycle
+     */
+    public void release(Deck deck) {
+        if (deck != null && running) {
+            returned.offer(deck);
+        }
+    }
+
+    /**
+     * Creates a card source that deals from a pooled deck and, when asked to shuffle, hands
+     * the deck back and takes a ready one instead of shuffling on the caller's thread.
+     *
+     * @return a card source for one dealer
+     */
+    public CardSource cardSource() {
+        return new PooledSource();
+    }
+
+    /**
+     * @return the number of decks currently shuffled and ready
+     */
+    public int readyCount() {
+        return ready.size();
+    }
+
+    /**
+     * @return how many times take found the pool empty and shuffled on the caller's thread
+     */
+    public long fallbackCount() {
+        return fallbacks.get();
+    }
+
+    /**
+     * Stops the producer thread. Decks can still be taken; they are shuffled on demand.
+     */
+    @Override
+    public void close() {
+        running = false;
+        producer.interrupt();
+    }
+
+    // Keeps the ready queue full, preferring returned decks over new ones
+    private void produce() {
+        try {
+            while (running) {
+                Deck deck = returned.poll();
+                if (deck == null) {
+                    deck = new Deck(producerRandom.split());
+                } else {
+                    deck.newDeck();
+                }
+                ready.put(deck); // Blocks while the pool is full
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOG.error("Deck shuffler stopped; decks will be shuffled on demand.", e);
+        }
+    }
+
+    // Deals from one pooled deck at a time, swapping in a ready deck to "shuffle"
+    private final class PooledSource implements CardSource {
+        private Deck deck = take();
+
+        @Override
+        public int dealCode() {
+            return deck.dealCode();
+        }
+
+        @Override
+        public int size() {
+            return deck.size();
+        }
+
+        @Override
+        public void shuffle() {
+            release(deck); // Reshuffled in the background for reuse
+            deck = take();
+        }
+    }
+
+    // Starts the shared pool the first time it is needed
+    private static final class Shared {
+        static final DeckPool POOL = new DeckPool(
+                Integer.getInteger(SIZE_PROPERTY, 8),
+                DeckRandom.named(System.getProperty(DeckRandom.SHUFFLE_PROPERTY)));
+    }
+}
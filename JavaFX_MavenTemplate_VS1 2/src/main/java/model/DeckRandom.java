@@ -0,0 +1,111 @@
+package model;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Source of random numbers for shuffling decks.
+ * Instances are not thread-safe; a thread that needs its own stream takes one with split().
+ */
+public interface DeckRandom {
+
+    /**
+     * System property that selects the shuffle source used by the shared DeckPool:
+     * "fast", "secure", or a number to seed a reproducible stream.
+     */
+    String SHUFFLE_PROPERTY = "poker.shuffle";
+
+    /**
+     * @param bound the upper bound, exclusive; must be positive
+     * @return a uniformly distributed value from 0 to bound - 1
+     */
+    int nextInt(int bound);
+
+    /**
+     * Creates an independent stream of the same kind, for use by another deck or thread.
+     * Seeded streams split deterministically, so a seeded pool stays reproducible.
+     *
+     * @return a new random stream
+     */
+    DeckRandom split();
+
+    /**
+     * A fast, non-cryptographic stream seeded from the clock.
+     *
+     * @return a new fast random stream
+     */
+    static DeckRandom fast() {
+        return of(new SplittableRandom());
+    }
+
+    /**
+     * A fast, reproducible stream.
+     *
+     * @param seed the seed of the stream
+     * @return a new seeded random stream
+     */
+    static DeckRandom seeded(long seed) {
+        return of(new SplittableRandom(seed));
+    }
+
+    /**
+     * A cryptographically strong stream, for tables where shuffles must not be predictable.
+     *
+     * @return a new secure random stream
+     */
+    static DeckRandom secure() {
+        SecureRandom random = new SecureRandom();
+        return new DeckRandom() {
+            @Override
+            public int nextInt(int bound) {
+                return random.nextInt(bound);
+            }
+
+            @Override
+            public DeckRandom split() {
+                return secure();
+            }
+        };
+    }
+
+    /**
+     * Wraps a SplittableRandom, which the returned stream then owns.
+     *
+     * @param random the stream to wrap
+     * @return a random stream backed by it
+     */
+    static DeckRandom of(SplittableRandom random) {
+        return new DeckRandom() {
+            @Override
+            public int nextInt(int bound) {
+                return random.nextInt(bound);
+            }
+
+            @Override
+            public DeckRandom split() {
+                return of(random.split());
+            }
+        };
+    }
+
+    /**
+     * Chooses a stream by name, as used by the "poker.shuffle" system property.
+     *
+     * @param name "fast", "secure", or a number to seed a reproducible stream; null means fast
+     * @return a new random stream of that kind
+     * @throws IllegalArgumentException if the name is not recognised
+     */
+    static DeckRandom named(String name) {
+        if (name == null || name.equalsIgnoreCase("fast")) {
+            return fast();
+        }
+        if (name.equalsIgnoreCase("secure")) {
+            return secure();
+        }
+        try {
+            return seeded(Long.parseLong(name.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown shuffle source: " + name);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the exact return of the Ante/Play and Pair Plus bets by enumerating every player
+ * hand against every dealer hand that can be dealt from the remaining 49 cards.
+ * The work is split across a fork/join pool by ranges of player hands; each matchup is a
+ * bitmask test and an integer compare on precomputed hand data.
+ *
+ * Payouts come from a Paytable, with the Play bet equal to the Ante and the player always
+ * making the Play bet.
+ */
+public final class ExactOddsCalculator {
+
+    // Dealer hands that can face one player hand (49 choose 3)
+    public static final int DEALER_HANDS_PER_PLAYER_HAND = 18424;
+
+    // Player hands handled by one leaf task
+    private static final int LEAF_SIZE = 64;
+
+    // Hand data in HandRankTable index order
+    private static final int[] PACKED_HANDS = new int[HandRankTable.COMBINATIONS];
+    private static final long[] CARD_MASKS = new long[HandRankTable.COMBINATIONS];
+    private static final int[] STRENGTHS = new int[HandRankTable.COMBINATIONS];
+
+    static {
+        int index = 0;
+        for (int c2 = 2; c2 < CardCodec.DECK_SIZE; c2++) {
+            for (int c1 = 1; c1 < c2; c1++) {
+                for (int c0 = 0; c0 < c1; c0++) {
+                    PACKED_HANDS[index] = PackedHand.of(c0, c1, c2);
+                    CARD_MASKS[index] = (1L << c0) | (1L << c1) | (1L << c2);
+                    STRENGTHS[index] = ThreeCardLogic.handStrength(c0, c1, c2);
+                    index++;
+                }
+            }
+        }
+    }
+
+    private ExactOddsCalculator() {
+    }
+
+    /**
+     * Runs the full enumeration for the active paytable on the common fork/join pool.
+     *
+     * @return the exact results
+     */
+    public static Result calculate() {
+        return calculate(Paytable.active());
+    }
+
+    /**
+     * Runs the full enumeration for a paytable on the common fork/join pool.
+     *
+     * @param paytable the paytable to settle bets with
+     * @return the exact results
+     */
+    public static Result calculate(Paytable paytable) {
+        return calculate(paytable, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the full enumeration for a paytable on the given fork/join pool.
+     *
+     * @param paytable the paytable to settle bets with
+     * @param pool the pool that runs the enumeration tasks
+     * @return the exact results
+     */
+    public static Result calculate(Paytable paytable, ForkJoinPool pool) {
+        int[] wins = new int[HandRankTable.COMBINATIONS];
+        int[] ties = new int[HandRankTable.COMBINATIONS];
+        pool.invoke(new MatchupTask(0, HandRankTable.COMBINATIONS, wins, ties));
+        return new Result(paytable, wins, ties);
+    }
+
+    /**
+     * Prints the exact return of each bet.
+     *
+     * @param args [paytable], a file path or bundled paytable name; defaults to the active paytable
+     */
+    public static void main(String[] args) {
+        Paytable paytable = args.length > 0 ? Paytable.load(args[0]) : Paytable.active();
+
+        long start = System.nanoTime();
+        Result result = calculate(paytable);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Paytable: " + paytable.getName());
+        System.out.println(result);
+        System.out.println("Enumerated " + result.getMatchups() + " matchups in " + elapsedMillis + " ms");
+    }
+
+    // Counts wins and ties for a range of player hands against every disjoint dealer hand
+    private static final class MatchupTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int[] wins;
+        private final int[] ties;
+
+        MatchupTask(int from, int to, int[] wins, int[] ties) {
+            this.from = from;
+            this.to = to;
+            this.wins = wins;
+            this.ties = ties;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MatchupTask(from, middle, wins, ties), new MatchupTask(middle, to, wins, ties));
+                return;
+            }
+
+            for (int player = from; player < to; player++) {
+                long playerMask = CARD_MASKS[player];
+                int playerStrength = STRENGTHS[player];
+                int won = 0;
+                int tied = 0;
+                for (int dealer = 0; dealer < HandRankTable.COMBINATIONS; dealer++) {
+                    if ((CARD_MASKS[dealer] & playerMask) != 0) {
+                        continue; // Shares a card with the player's hand
+                    }
+                    int dealerStrength = STRENGTHS[dealer];
+                    if (playerStrength > dealerStrength) {
+                        won++;
+                    } else if (playerStrength == dealerStrength) {
+                        tied++;
+                    }
+                }
+                wins[player] = won;
+                ties[player] = tied;
+            }
+        }
+    }
+
+    /**
+     * Exact outcome counts of a full enumeration, with the expected value, house edge and
+     * payout frequencies of each bet derived from them.
+     */
+    public static final class Result {
+        private final Paytable paytable;
+        private final int[] wins;
+        private final int[] ties;
+        private final long totalWins;
+        private final long totalTies;
+        private final long anteNet;
+        private final long pairPlusNet;
+        private final long[] pairPlusCounts = new long[6];
+
+        Result(Paytable paytable, int[] wins, int[] ties) {
+            this.paytable = paytable;
+            this.wins = wins;
+            this.ties = ties;
+
+            long wonSum = 0;
+            long tiedSum = 0;
+            long anteSum = 0;
+            long pairPlusSum = 0;
+            for (int i = 0; i < HandRankTable.COMBINATIONS; i++) {
+                int handValue = ThreeCardLogic.evalHand(PACKED_HANDS[i]);
+                wonSum += wins[i];
+                tiedSum += ties[i];
+                anteSum += anteNetAt(i, handValue);
+                pairPlusCounts[handValue]++;
+                pairPlusSum += paytable.pairPlusNet(handValue, 1);
+            }
+            this.totalWins = wonSum;
+            this.totalTies = tiedSum;
+            this.anteNet = anteSum;
+            this.pairPlusNet = pairPlusSum;
+        }
+
+        /**
+         * @return the paytable the bets were settled with
+         */
+        public Paytable getPaytable() {
+            return paytable;
+        }
+
+        /**
+         * @return the number of player/dealer matchups enumerated
+         */
+        public long getMatchups() {
+            return (long) HandRankTable.COMBINATIONS * DEALER_HANDS_PER_PLAYER_HAND;
+        }
+
+        /**
+         * @return the probability that the player's hand beats the dealer's
+         */
+        public double getWinFrequency() {
+            return (double) totalWins / getMatchups();
+        }
+
+        /**
+         * @return the probability that the two hands tie
+         */
+        public double getTieFrequency() {
+            return (double) totalTies / getMatchups();
+        }
+
+        /**
+         * @return the probability that the dealer's hand beats the player's
+         */
+        public double getLossFrequency() {
+            return (double) (getMatchups() - totalWins - totalTies) / getMatchups();
+        }
+
+        /**
+         * @return the expected net result of the Ante and Play bets per unit of Ante
+         */
+        public double getAnteExpectedValue() {
+            return (double) anteNet / getMatchups();
+        }
+
+        /**
+         * @return the house edge on the Ante, as a fraction of the Ante
+         */
+        public double getAnteHouseEdge() {
+            return -getAnteExpectedValue();
+        }
+
+        /**
+         * @param handValue a ThreeCardLogic hand value (0 to 5)
+         * @return the probability of the player being dealt that hand value
+         */
+        public double getPairPlusFrequency(int handValue) {
+            return (double) pairPlusCounts[handValue] / HandRankTable.COMBINATIONS;
+        }
+
+        /**
+         * @return the expected net result of the Pair Plus bet per unit bet
+         */
+        public double getPairPlusExpectedValue() {
+            return (double) pairPlusNet / HandRankTable.COMBINATIONS;
+        }
+
+        /**
+         * @return the house edge on the Pair Plus bet, as a fraction of the bet
+         */
+        public double getPairPlusHouseEdge() {
+            return -getPairPlusExpectedValue();
+        }
+
+        /**
+         * @param packed a complete packed hand
+         * @return how many of the dealer hands left by this hand it beats
+         */
+        public int getWins(int packed) {
+            return wins[indexOf(packed)];
+        }
+
+        /**
+         * @param packed a complete packed hand
+         * @return how many of the dealer hands left by this hand it ties
+         */
+        public int getTies(int packed) {
+            return ties[indexOf(packed)];
+        }
+
+        /**
+         * @param packed a complete packed hand
+         * @return how many of the dealer hands left by this hand beat it
+         */
+        public int getLosses(int packed) {
+            int index = indexOf(packed);
+            return DEALER_HANDS_PER_PLAYER_HAND - wins[index] - ties[index];
+        }
+
+        /**
+         * @param packed a complete packed hand
+         * @return the expected net result of the Ante and Play bets per unit of Ante when
+         *         this hand makes the Play bet
+         */
+        public double getPlayExpectedValue(int packed) {
+            return playExpectedValueAt(indexOf(packed));
+        }
+
+        // Expected value of playing the hand at a HandRankTable index, per unit of Ante
+        double playExpectedValueAt(int index) {
+            int handValue = ThreeCardLogic.evalHand(PACKED_HANDS[index]);
+            return (double) anteNetAt(index, handValue) / DEALER_HANDS_PER_PLAYER_HAND;
+        }
+
+        // Net Ante, Play and Ante bonus result of the hand at an index, summed over every dealer hand
+        private long anteNetAt(int index, int handValue) {
+            int losses = DEALER_HANDS_PER_PLAYER_HAND - wins[index] - ties[index];
+            return (long) wins[index] * paytable.anteAndPlayWinnings(ThreeCardLogic.PLAYER_WIN, 1, 1)
+                    + (long) ties[index] * paytable.anteAndPlayWinnings(ThreeCardLogic.TIE, 1, 1)
+                    + (long) losses * paytable.anteAndPlayWinnings(ThreeCardLogic.DEALER_WIN, 1, 1)
+                    + (long) DEALER_HANDS_PER_PLAYER_HAND * paytable.anteBonus(handValue, 1);
+        }
+
+        @Override
+        public String toString() {
+            String[] names = {"High Card", "Straight Flush", "Three of a Kind", "Straight", "Flush", "Pair"};
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Ante/Play: win %.6f | tie %.6f | loss %.6f%n",
+                    getWinFrequency(), getTieFrequency(), getLossFrequency()));
+            report.append(String.format("Ante/Play: EV %+.6f | house edge %.4f%%%n",
+                    getAnteExpectedValue(), getAnteHouseEdge() * 100));
+            for (int handValue = 1; handValue < names.length; handValue++) {
+                report.append(String.format("Pair Plus %s: %.6f%n", names[handValue], getPairPlusFrequency(handValue)));
+            }
+            report.append(String.format("Pair Plus: EV %+.6f | house edge %.4f%%",
+                    getPairPlusExpectedValue(), getPairPlusHouseEdge() * 100));
+            return report.toString();
+        }
+
+        private static int indexOf(int packed) {
+            int index = HandRankTable.indexOf(
+                    PackedHand.card(packed, 0), PackedHand.card(packed, 1), PackedHand.card(packed, 2));
+            if (PackedHand.size(packed) < 3 || index < 0) {
+                throw new IllegalArgumentException("Expected a hand of three different cards.");
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable hand of up to three cards, stored as a single PackedHand int.
+ * A Hand is a read-only List of the shared Card instances, so it can be handed between the
+ * dealer, players, ThreeCardLogic and PokerInfo without defensive copies; every mutating
+ * List method throws UnsupportedOperationException.
+ */
+public final class Hand extends AbstractList<Card> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // A hand holding no cards
+    public static final Hand EMPTY = new Hand(PackedHand.EMPTY);
+
+    private final int packed; // The cards, packed with PackedHand
+
+    private Hand(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Wraps a packed hand.
+     *
+     * @param packed a hand packed with PackedHand
+     * @return the hand
+     * @throws IllegalArgumentException if the packed hand holds more than three cards or an
+     *         invalid card code
+     */
+    public static Hand of(int packed) {
+        int size = PackedHand.size(packed);
+        if (size > 3) {
+            throw new IllegalArgumentException("A hand holds at most three cards: " + size);
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        for (int i = 0; i < size; i++) {
+            if (PackedHand.card(packed, i) >= CardCodec.DECK_SIZE) {
+                throw new IllegalArgumentException("Invalid card code in packed hand: " + PackedHand.card(packed, i));
+            }
+        }
+        return new Hand(packed);
+    }
+
+    /**
+     * Creates a hand of three cards.
+     *
+     * @param c0 the first card
+     * @param c1 the second card
+     * @param c2 the third card
+     * @return the hand
+     */
+    public static Hand of(Card c0, Card c1, Card c2) {
+        return new Hand(PackedHand.of(CardCodec.encode(c0), CardCodec.encode(c1), CardCodec.encode(c2)));
+    }
+
+    /**
+     * Converts a list of cards to a hand. A Hand is returned as it is, without copying.
+     *
+     * @param cards up to three cards; null is treated as an empty hand
+     * @return the hand
+     * @throws IllegalArgumentException if the list holds more than three cards
+     */
+    public static Hand of(List<Card> cards) {
+        if (cards instanceof Hand) {
+            return (Hand) cards;
+        }
+        if (cards == null || cards.isEmpty()) {
+            return EMPTY;
+        }
+        if (cards.size() > 3) {
+            throw new IllegalArgumentException("A hand holds at most three cards.");
+        }
+        return new Hand(PackedHand.of(cards));
+    }
+
+    /**
+     * @return the cards of this hand packed with PackedHand, for the int overloads of ThreeCardLogic
+     */
+    public int packed() {
+        return packed;
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size() + " cards");
+        }
+        return CardCodec.toCard(PackedHand.card(packed, index));
+    }
+
+    @Override
+    public int size() {
+        return PackedHand.size(packed);
+    }
+
+    /**
+     * Hands are equal to any list holding the same cards in the same order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof Hand) {
+            return packed == ((Hand) other).packed;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode(); // Must match the hash of an equal List
+    }
+
+    // Validates the cards and keeps a single empty hand
+    private Object readResolve() {
+        return of(packed);
+    }
+}
@@ -0,0 +1,187 @@
+package model;
+
+/**
+ * Precomputed evaluation data for every three-card combination of a standard deck.
+ * Cards are addressed by their CardCodec code (0 to 51), and each unordered hand by its
+ * position in the combinatorial number system.
+ * All tables are filled once when the class is loaded; lookups never allocate.
+ */
+final class HandRankTable {
+
+    // Number of distinct three-card hands in a 52-card deck (52 choose 3)
+    static final int COMBINATIONS = 22100;
+
+    // Bit flags describing which of the ThreeCardLogic predicates hold for a hand
+    static final int FLUSH = 1;
+    static final int STRAIGHT = 2;
+    static final int THREE_OF_A_KIND = 4;
+    static final int PAIR = 8;
+
+    // Binomial coefficients used to turn a sorted hand into its table index
+    private static final int[] CHOOSE_2 = new int[52];
+    private static final int[] CHOOSE_3 = new int[52];
+
+    // Per-hand data, indexed by combination index
+    private static final byte[] FLAGS = new byte[COMBINATIONS];
+    private static final byte[] RANKS = new byte[COMBINATIONS];
+    private static final int[] STRENGTHS = new int[COMBINATIONS];
+
+    // Category order used by strengths, weakest first, indexed by ThreeCardLogic rank
+    private static final int[] CATEGORY_ORDER = {
+            0, // High Card
+            5, // Straight Flush
+            4, // Three of a Kind
+            3, // Straight
+            2, // Flush
+            1  // Pair
+    };
+
+    static {
+        for (int n = 0; n < 52; n++) {
+            CHOOSE_2[n] = n * (n - 1) / 2;
+            CHOOSE_3[n] = n * (n - 1) * (n - 2) / 6;
+        }
+
+        for (int c2 = 2; c2 < 52; c2++) {
+            for (int c1 = 1; c1 < c2; c1++) {
+                for (int c0 = 0; c0 < c1; c0++) {
+                    int index = c0 + CHOOSE_2[c1] + CHOOSE_3[c2];
+                    int flags = computeFlags(c0, c1, c2);
+                    FLAGS[index] = (byte) flags;
+                    RANKS[index] = (byte) rankOf(flags);
+                    STRENGTHS[index] = computeStrength(c0, c1, c2, rankOf(flags));
+                }
+            }
+        }
+    }
+
+    private HandRankTable() {
+    }
+
+    /**
+     * Returns the table index of a hand of three distinct card codes given in any order,
+     * or -1 if two of the card codes are the same card.
+     *
+     * @throws IllegalArgumentException if a card code is not between 0 and 51
+     */
+    static int indexOf(int a, int b, int c) {
+        // Sort the three card codes with a fixed sequence of compare-and-swaps
+        int t;
+        if (a > b) { t = a; a = b; b = t; }
+        if (b > c) { t = b; b = c; c = t; }
+        if (a > b) { t = a; a = b; b = t; }
+
+        if (a < 0 || c >= CardCodec.DECK_SIZE) {
+            throw new IllegalArgumentException("Invalid card code. Must be between 0 and 51.");
+        }
+        if (a == b || b == c) {
+            return -1;
+        }
+        return a + CHOOSE_2[b] + CHOOSE_3[c];
+    }
+
+    /**
+     * Returns the predicate flags for three card codes.
+     */
+    static int flags(int a, int b, int c) {
+        int index = indexOf(a, b, c);
+        return index >= 0 ? FLAGS[index] : computeFlags(a, b, c);
+    }
+
+    /**
+     * Returns the ThreeCardLogic rank (0 to 5) for three card codes.
+     */
+    static int rank(int a, int b, int c) {
+        int index = indexOf(a, b, c);
+        return index >= 0 ? RANKS[index] : rankOf(computeFlags(a, b, c));
+    }
+
+    /**
+     * Returns a score for three card codes that grows with the strength of the hand.
+     * The category sits above twelve bits of kickers, four bits per card value: the pair
+     * value twice and then the odd card for pairs, otherwise the values high to low.
+     */
+    static int strength(int a, int b, int c) {
+        int index = indexOf(a, b, c);
+        return index >= 0 ? STRENGTHS[index] : computeStrength(a, b, c, rankOf(computeFlags(a, b, c)));
+    }
+
+    /**
+     * Writes the rank of each packed hand in a range to an output array in one pass.
+     * Incomplete hands rank 0, as in ThreeCardLogic.evalHand(int).
+     */
+    static void ranks(int[] packedHands, int offset, int[] out, int outOffset, int count) {
+        for (int i = 0; i < count; i++) {
+            int packed = packedHands[offset + i];
+            int a = PackedHand.card(packed, 0), b = PackedHand.card(packed, 1), c = PackedHand.card(packed, 2);
+            int index = indexOf(a, b, c);
+            int rank = index >= 0 ? RANKS[index] : rankOf(computeFlags(a, b, c));
+            out[outOffset + i] = PackedHand.size(packed) == 3 ? rank : 0;
+        }
+    }
+
+    /**
+     * Writes the strength of each packed hand in a range to an output array in one pass.
+     * Incomplete hands score 0, as in ThreeCardLogic.handStrength(int).
+     */
+    static void strengths(int[] packedHands, int offset, int[] out, int outOffset, int count) {
+        for (int i = 0; i < count; i++) {
+            int packed = packedHands[offset + i];
+            int a = PackedHand.card(packed, 0), b = PackedHand.card(packed, 1), c = PackedHand.card(packed, 2);
+            int index = indexOf(a, b, c);
+            int strength = index >= 0 ? STRENGTHS[index] : computeStrength(a, b, c, rankOf(computeFlags(a, b, c)));
+            out[outOffset + i] = PackedHand.size(packed) == 3 ? strength : 0;
+        }
+    }
+
+    // Mirrors the original isFlush / isStraight / isThreeOfAKind / isPair predicates
+    private static int computeFlags(int a, int b, int c) {
+        int va = a % 13, vb = b % 13, vc = c % 13;
+        int sa = a / 13, sb = b / 13, sc = c / 13;
+
+        int flags = 0;
+        if (sa == sb && sb == sc) {
+            flags |= FLUSH;
+        }
+
+        int low = Math.min(va, Math.min(vb, vc));
+        int high = Math.max(va, Math.max(vb, vc));
+        int middle = va + vb + vc - low - high;
+        if (high - middle == 1 && middle - low == 1) {
+            flags |= STRAIGHT;
+        }
+
+        if (va == vb && vb == vc) {
+            flags |= THREE_OF_A_KIND;
+        }
+        if (va == vb || vb == vc || va == vc) {
+            flags |= PAIR;
+        }
+        return flags;
+    }
+
+    // Same precedence as the original evaluator: straight flush, three of a kind, straight, flush, pair
+    private static int rankOf(int flags) {
+        if ((flags & FLUSH) != 0 && (flags & STRAIGHT) != 0) return 1;
+        if ((flags & THREE_OF_A_KIND) != 0) return 2;
+        if ((flags & STRAIGHT) != 0) return 3;
+        if ((flags & FLUSH) != 0) return 4;
+        if ((flags & PAIR) != 0) return 5;
+        return 0;
+    }
+
+    private static int computeStrength(int a, int b, int c, int rank) {
+        int va = a % 13 + 2, vb = b % 13 + 2, vc = c % 13 + 2;
+        int low = Math.min(va, Math.min(vb, vc));
+        int high = Math.max(va, Math.max(vb, vc));
+        int middle = va + vb + vc - low - high;
+
+        // A pair outranks its kicker, so move the odd card to the bottom
+        if (rank == 5 && high != middle) {
+            high = middle;
+            middle = low;
+            low = va + vb + vc - 2 * middle;
+        }
+        return (CATEGORY_ORDER[rank] << 12) | (high << 8) | (middle << 4) | low;
+    }
+}
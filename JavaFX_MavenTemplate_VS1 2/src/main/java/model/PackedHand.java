@@ -0,0 +1,94 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Packs a hand of up to three card codes into a single int.
+ * Bits 0-5, 6-11 and 12-17 hold the card codes in deal order, and bits 18-19 hold the
+ * number of cards, so an empty hand is simply 0. Packed hands live on the stack and can
+ * be passed to the int overloads of ThreeCardLogic without any allocation.
+ */
+public final class PackedHand {
+
+    // A hand holding no cards
+    public static final int EMPTY = 0;
+
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    private static final int SIZE_SHIFT = 3 * CARD_BITS;
+
+    private PackedHand() {
+    }
+
+    /**
+     * Packs three card codes into a hand.
+     *
+     * @param c0 the first card code
+     * @param c1 the second card code
+     * @param c2 the third card code
+     * @return the packed hand
+     */
+    public static int of(int c0, int c1, int c2) {
+        return c0 | (c1 << CARD_BITS) | (c2 << (2 * CARD_BITS)) | (3 << SIZE_SHIFT);
+    }
+
+    /**
+     * Packs the first three cards of a list into a hand. Shorter lists produce a
+     * partial hand holding only the cards present, and a Hand is read without unpacking.
+     *
+     * @param cards the cards to pack
+     * @return the packed hand
+     */
+    public static int of(List<Card> cards) {
+        if (cards == null) {
+            return EMPTY;
+        }
+        if (cards instanceof Hand) {
+            return ((Hand) cards).packed();
+        }
+
+        int size = Math.min(cards.size(), 3);
+        int packed = size << SIZE_SHIFT;
+        for (int i = 0; i < size; i++) {
+            packed |= CardCodec.encode(cards.get(i)) << (i * CARD_BITS);
+        }
+        return packed;
+    }
+
+    /**
+     * Adds a card to the end of a hand holding fewer than three cards.
+     *
+     * @param packed the packed hand
+     * @param code the card code to add
+     * @return the packed hand with the card added
+     * @throws IllegalArgumentException if the hand already holds three cards
+     */
+    public static int add(int packed, int code) {
+        int size = size(packed);
+        if (size >= 3) {
+            throw new IllegalArgumentException("A hand holds at most three cards.");
+        }
+        return (packed & ~(3 << SIZE_SHIFT)) | (code << (size * CARD_BITS)) | ((size + 1) << SIZE_SHIFT);
+    }
+
+    /**
+     * Gets the number of cards in a packed hand.
+     *
+     * @param packed the packed hand
+     * @return the number of cards (0 to 3)
+     */
+    public static int size(int packed) {
+        return packed >>> SIZE_SHIFT;
+    }
+
+    /**
+     * Gets the card code at a position of a packed hand.
+     *
+     * @param packed the packed hand
+     * @param position the position (0 to 2)
+     * @return the card code at that position
+     */
+    public static int card(int packed, int position) {
+        return (packed >>> (position * CARD_BITS)) & CARD_MASK;
+    }
+}
@@ -0,0 +1,214 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Payout schedule for the Ante, Play, Pair Plus and Ante bonus bets.
+ * Paytables are loaded from properties files and compiled into primitive arrays, so settling
+ * a bet is a single array load: Ante and Play payouts are indexed by the ThreeCardLogic
+ * comparison result, and Pair Plus and Ante bonus payouts by the ThreeCardLogic hand value.
+ *
+ * The server uses the paytable named by the "poker.paytable" system property, which may be
+ * a file path or the name of a bundled paytable under /paytables; without it the bundled
+ * "standard" paytable is used.
+ */
+public final class Paytable {
+
+    // System property that selects the active paytable
+    public static final String PAYTABLE_PROPERTY = "poker.paytable";
+
+    // Property key suffix for each hand value, indexed by hand value
+    private static final String[] HAND_KEYS = {
+            "highCard", "straightFlush", "threeOfAKind", "straight", "flush", "pair"
+    };
+
+    private final String name;
+    private final int[] antePayouts = new int[3]; // Net multiple of the Ante, by comparison result
+    private final int[] playPayouts = new int[3]; // Net multiple of the Play bet, by comparison result
+    private final int[] pairPlusPayouts = new int[HAND_KEYS.length]; // Multiple of the Pair Plus bet, by hand value
+    private final int[] anteBonusPayouts = new int[HAND_KEYS.length]; // Multiple of the Ante, by hand value
+    private volatile PlayDecisionTable decisions; // Built on first use
+
+    private Paytable(Properties properties) {
+        this.name = properties.getProperty("name", "Unnamed");
+
+        antePayouts[ThreeCardLogic.PLAYER_WIN] = required(properties, "ante.win");
+        antePayouts[ThreeCardLogic.TIE] = required(properties, "ante.tie");
+        antePayouts[ThreeCardLogic.DEALER_WIN] = required(properties, "ante.loss");
+        playPayouts[ThreeCardLogic.PLAYER_WIN] = required(properties, "play.win");
+        playPayouts[ThreeCardLogic.TIE] = required(properties, "play.tie");
+        playPayouts[ThreeCardLogic.DEALER_WIN] = required(properties, "play.loss");
+
+        for (int handValue = 0; handValue < HAND_KEYS.length; handValue++) {
+            pairPlusPayouts[handValue] = optional(properties, "pairPlus." + HAND_KEYS[handValue]);
+            anteBonusPayouts[handValue] = optional(properties, "anteBonus." + HAND_KEYS[handValue]);
+        }
+    }
+
+    /**
+     * Gets the bundled standard paytable.
+     *
+     * @return the standard paytable
+     */
+    public static Paytable standard() {
+        return Bundled.STANDARD;
+    }
+
+    /**
+     * Gets the paytable selected by the "poker.paytable" system property, or the standard
+     * paytable if the property is not set.
+     *
+     * @return the active paytable
+     */
+    public static Paytable active() {
+        return Bundled.ACTIVE;
+    }
+
+    /**
+     * Loads a paytable from a file path, or from a bundled paytable with that name.
+     *
+     * @param location a file path, or a bundled name such as "standard" or "ante-bonus"
+     * @return the loaded paytable
+     * @throws IllegalArgumentException if no such paytable exists or it is incomplete
+     */
+    public static Paytable load(String location) {
+        Path path = Paths.get(location);
+        if (Files.isRegularFile(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read paytable " + location, e);
+            }
+        }
+
+        try (InputStream in = Paytable.class.getResourceAsStream("/paytables/" + location + ".properties")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown paytable: " + location);
+            }
+            return load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read paytable " + location, e);
+        }
+    }
+
+    /**
+     * Loads a paytable from a properties stream.
+     *
+     * @param in the stream to read
+     * @return the loaded paytable
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if a required payout is missing or not a number
+     */
+    public static Paytable load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        return new Paytable(properties);
+    }
+
+    /**
+     * @return the display name of this paytable
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Settles the Ante and Play bets after a showdown.
+     *
+     * @param result the ThreeCardLogic comparison result
+     * @param anteBet the Ante bet
+     * @param playBet the Play bet
+     * @return the net winnings of both bets
+     */
+    public int anteAndPlayWinnings(int result, int anteBet, int playBet) {
+        return antePayouts[result] * anteBet + playPayouts[result] * playBet;
+    }
+
+    /**
+     * Gets the Ante bonus earned by a hand that made the Play bet.
+     *
+     * @param handValue the ThreeCardLogic hand value
+     * @param anteBet the Ante bet
+     * @return the bonus, or 0 if the hand earns none
+     */
+    public int anteBonus(int handValue, int anteBet) {
+        return anteBonusPayouts[handValue] * anteBet;
+    }
+
+    /**
+     * Gets the Pair Plus payout of a hand.
+     *
+     * @param handValue the ThreeCardLogic hand value
+     * @param bet the Pair Plus bet
+     * @return the payout, or 0 if the hand does not pay
+     */
+    public int pairPlusWinnings(int handValue, int bet) {
+        return pairPlusPayouts[handValue] * bet;
+    }
+
+    /**
+     * Gets the net result of a Pair Plus bet, where a hand that does not pay loses the bet.
+     *
+     * @param handValue the ThreeCardLogic hand value
+     * @param bet the Pair Plus bet
+     * @return the net result
+     */
+    public int pairPlusNet(int handValue, int bet) {
+        int winnings = pairPlusPayouts[handValue] * bet;
+        return winnings > 0 ? winnings : -bet;
+    }
+
+    // Play/Fold decisions under this paytable, generated the first time they are needed
+    PlayDecisionTable decisions() {
+        PlayDecisionTable table = decisions;
+        if (table == null) {
+            synchronized (this) {
+                table = decisions;
+                if (table == null) {
+                    table = new PlayDecisionTable(ExactOddsCalculator.calculate(this));
+                    decisions = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static int required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Paytable is missing " + key);
+        }
+        return parse(key, value);
+    }
+
+    private static int optional(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        return value == null ? 0 : parse(key, value);
+    }
+
+    private static int parse(String key, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Paytable value for " + key + " is not a number: " + value);
+        }
+    }
+
+    // Holds the bundled paytables until they are first needed
+    private static final class Bundled {
+        static final Paytable STANDARD = load("standard");
+        static final Paytable ACTIVE = System.getProperty(PAYTABLE_PROPERTY) == null
+                ? STANDARD : load(System.getProperty(PAYTABLE_PROPERTY));
+    }
+}
@@ -0,0 +1,47 @@
+package model;
+
+/**
+ * Optimal Play/Fold decision and expected values for every possible player hand under one
+ * paytable. Each Paytable generates its table once, from a full ExactOddsCalculator
+ * enumeration, the first time a decision is needed; after that a decision is a single
+ * array index per hand.
+ */
+final class PlayDecisionTable {
+
+    // Folding forfeits the Ante, whatever the hand
+    static final double FOLD_EXPECTED_VALUE = -1.0;
+
+    // Per-hand data, indexed by HandRankTable combination index
+    private final float[] playExpectedValues = new float[HandRankTable.COMBINATIONS];
+    private final boolean[] play = new boolean[HandRankTable.COMBINATIONS];
+
+    PlayDecisionTable(ExactOddsCalculator.Result result) {
+        for (int index = 0; index < HandRankTable.COMBINATIONS; index++) {
+            double playExpectedValue = result.playExpectedValueAt(index);
+            playExpectedValues[index] = (float) playExpectedValue;
+            play[index] = playExpectedValue > FOLD_EXPECTED_VALUE;
+        }
+    }
+
+    /**
+     * Returns whether playing the hand has a higher expected value than folding it.
+     */
+    boolean shouldPlay(int a, int b, int c) {
+        return play[checkedIndex(a, b, c)];
+    }
+
+    /**
+     * Returns the expected net result of playing the hand, per unit of Ante.
+     */
+    double playExpectedValue(int a, int b, int c) {
+        return playExpectedValues[checkedIndex(a, b, c)];
+    }
+
+    private static int checkedIndex(int a, int b, int c) {
+        int index = HandRankTable.indexOf(a, b, c);
+        if (index < 0) {
+            throw new IllegalArgumentException("Expected a hand of three different cards.");
+        }
+        return index;
+    }
+}
@@ -1,6 +1,6 @@
 package model;
 
-import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -8,7 +8,7 @@ import java.util.ArrayList;
  * This class provides the core functionalities to track a player's state throughout the game.
  */
 public class Player {
-    private ArrayList<Card> hand; // Stores the player's current hand
+    private Hand hand; // Stores the player's current hand
     private int anteBet; // The player's Ante bet
     private int pairPlusBet; // The player's Pair Plus bet
     private int playBet; // The player's Play bet
@@ -16,26 +16,26 @@ public class Player {
 
     /**
      * Default constructor for the Player class.
-     * Initializes the player's hand as an empty list and sets total winnings to zero.
+     * Initializes the player's hand as an empty hand and sets total winnings to zero.
      */
     public Player() {
-        hand = new ArrayList<>(); // Start with an empty hand
+        hand = Hand.EMPTY; // Start with an empty hand
         totalWinnings = 0; // No winnings at the start
     }
 
     /**
-     * Sets the player's hand to the provided list of cards.
-     * @param hand the new hand to assign to the player
+     * Sets the player's hand to the provided cards.
+     * @param hand the new hand to assign to the player; a Hand is kept without copying
      */
-    public void setHand(ArrayList<Card> hand) {
-        this.hand = hand;
+    public void setHand(List<Card> hand) {
+        this.hand = Hand.of(hand);
     }
 
     /**
      * Retrieves the player's current hand.
-     * @return the list of cards in the player's hand
+     * @return the immutable hand of cards, safe to share
      */
-    public ArrayList<Card> getHand() {
+    public Hand getHand() {
         return hand;
     }
 
@@ -116,7 +116,7 @@ public class Player {
      * Clears the hand and resets all bets to zero.
      */
     public void resetForNewGame() {
-        hand.clear(); // Remove all cards from the player's hand
+        hand = Hand.EMPTY; // Remove all cards from the player's hand
         anteBet = 0; // Reset Ante bet
         pairPlusBet = 0; // Reset Pair Plus bet
         playBet = 0; // Reset Play bet
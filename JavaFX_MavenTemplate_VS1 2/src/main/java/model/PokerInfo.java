@@ -1,11 +1,13 @@
 package model;
 
-import java.io.*;
-import java.util.ArrayList;
-
-public class PokerInfo implements Serializable {
-    private static final long serialVersionUID = 1L; // Ensures compatibility during serialization
-
+import java.util.List;
+
+/**
+ * Game state exchanged between the server and a client, carried on the wire by GameProtocol.
+ * Hands are held as immutable Hand values, so getters and setters share them without
+ * copying.
+ */
+public class PokerInfo {
     private int anteBet; // The player's ante bet
     private int pairPlusBet; // The player's Pair Plus bet
     private int playBet; // The player's play bet
@@ -22,20 +24,19 @@ public class PokerInfo implements Serializable {
         this.currentTurn = turn;
     }
 
-    // These lists store the player's and dealer's hands
-    // Marked as transient since ArrayLists containing objects may not serialize well by default
-    private transient ArrayList<Card> playerHand;
-    private transient ArrayList<Card> dealerHand;
+    // These store the player's and dealer's hands
+    private Hand playerHand;
+    private Hand dealerHand;
     
     private boolean dealerCardsHidden = true; // True when dealer's cards are hidden
-    private ArrayList<Card> opponentHand = new ArrayList<>();
+    private Hand opponentHand = Hand.EMPTY;
 
-    public ArrayList<Card> getOpponentHand() {
-        return new ArrayList<>(opponentHand); // Return a copy to prevent modification
+    public Hand getOpponentHand() {
+        return opponentHand; // Hands are immutable, so no copy is needed
     }
 
-    public void setOpponentHand(ArrayList<Card> opponentHand) {
-        this.opponentHand = new ArrayList<>(opponentHand);
+    public void setOpponentHand(List<Card> opponentHand) {
+        this.opponentHand = Hand.of(opponentHand);
     }
 
 
@@ -51,11 +52,31 @@ public class PokerInfo implements Serializable {
      * Initializes empty hands and ensures the game message is never null.
      */
     public PokerInfo() {
-        this.playerHand = new ArrayList<>();
-        this.dealerHand = new ArrayList<>();
+        this.playerHand = Hand.EMPTY;
+        this.dealerHand = Hand.EMPTY;
         this.gameMessage = "";
     }
 
+    /**
+     * Copy constructor. Hands are immutable, so they are shared rather than copied.
+     *
+     * @param other the state to copy
+     */
+    public PokerInfo(PokerInfo other) {
+        this.anteBet = other.anteBet;
+        this.pairPlusBet = other.pairPlusBet;
+        this.playBet = other.playBet;
+        this.totalWinnings = other.totalWinnings;
+        this.playerFolded = other.playerFolded;
+        this.gameMessage = other.gameMessage;
+        this.currentTurn = other.currentTurn;
+        this.playerHand = other.playerHand;
+        this.dealerHand = other.dealerHand;
+        this.dealerCardsHidden = other.dealerCardsHidden;
+        this.opponentHand = other.opponentHand;
+        this.newRound = other.newRound;
+    }
+
     // ===== Getters and Setters =====
 
     public int getAnteBet() {
@@ -91,31 +112,31 @@ public class PokerInfo implements Serializable {
     }
 
     /**
-     * Returns a copy of the player's hand to prevent unintended modifications.
+     * Returns the player's hand; it is immutable, so it is shared rather than copied.
      */
-    public ArrayList<Card> getPlayerHand() {
-        return new ArrayList<>(playerHand);
+    public Hand getPlayerHand() {
+        return playerHand;
     }
 
     /**
-     * Stores a copy of the player's hand to prevent external modification.
+     * Stores the player's hand, converting it to an immutable Hand if it is not one already.
      */
-    public void setPlayerHand(ArrayList<Card> playerHand) {
-        this.playerHand = new ArrayList<>(playerHand);
+    public void setPlayerHand(List<Card> playerHand) {
+        this.playerHand = Hand.of(playerHand);
     }
 
     /**
-     * Returns a copy of the dealer's hand to ensure data integrity.
+     * Returns the dealer's hand; it is immutable, so it is shared rather than copied.
      */
-    public ArrayList<Card> getDealerHand() {
-        return new ArrayList<>(dealerHand);
+    public Hand getDealerHand() {
+        return dealerHand;
     }
 
     /**
-     * Stores a copy of the dealer's hand to protect the original data.
+     * Stores the dealer's hand, converting it to an immutable Hand if it is not one already.
      */
-    public void setDealerHand(ArrayList<Card> dealerHand) {
-        this.dealerHand = new ArrayList<>(dealerHand);
+    public void setDealerHand(List<Card> dealerHand) {
+        this.dealerHand = Hand.of(dealerHand);
     }
 
     public boolean isPlayerFolded() {
@@ -154,48 +175,4 @@ public class PokerInfo implements Serializable {
     public void setGameMessage(String gameMessage) {
         this.gameMessage = (gameMessage == null) ? "" : gameMessage;
     }
-
-    // ===== Custom Serialization and Deserialization Methods =====
-
-    /**
-     * Handles custom serialization to properly store the player's and dealer's hands.
-     * The hands are written separately since transient fields are not serialized by default.
-     */
-    private void writeObject(ObjectOutputStream out) throws IOException {
-        out.defaultWriteObject(); // Serialize all non-transient fields
-
-        // Write player hand size and cards
-        out.writeInt(playerHand.size());
-        for (Card card : playerHand) {
-            out.writeObject(card);
-        }
-
-        // Write dealer hand size and cards
-        out.writeInt(dealerHand.size());
-        for (Card card : dealerHand) {
-            out.writeObject(card);
-        }
-    }
-
-    /**
-     * Handles custom deserialization to reconstruct the player's and dealer's hands.
-     * This ensures that the transient fields are restored correctly when the object is read back.
-     */
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject(); // Deserialize all non-transient fields
-
-        // Read player hand
-        int playerHandSize = in.readInt();
-        playerHand = new ArrayList<>();
-        for (int i = 0; i < playerHandSize; i++) {
-            playerHand.add((Card) in.readObject());
-        }
-
-        // Read dealer hand
-        int dealerHandSize = in.readInt();
-        dealerHand = new ArrayList<>();
-        for (int i = 0; i < dealerHandSize; i++) {
-            dealerHand.add((Card) in.readObject());
-        }
-    }
 }
@@ -0,0 +1,154 @@
+package model;
+
+/**
+ * A shoe of one or more decks, dealt either down to a cut card or as a continuous shuffling
+ * machine.
+ * The shoe is one byte array of card codes, so even an eight-deck shoe is 416 bytes and
+ * deals in constant time without per-card objects.
+ *
+ * A finite shoe is shuffled once and dealt in order until the cut card, placed by the
+ * penetration setting, is reached. A continuous shuffler draws each card at random from the
+ * cards still in the machine and takes the cards of each finished round straight back.
+ *
+ * Tables are configured with system properties: "poker.shoe.decks" (default 1),
+ * "poker.shoe.penetration" (fraction dealt before reshuffling, default 0.75) and
+ * "poker.shoe.continuous" (default false).
+ */
+public final class Shoe implements CardSource {
+
+    public static final String DECKS_PROPERTY = "poker.shoe.decks";
+    public static final String PENETRATION_PROPERTY = "poker.shoe.penetration";
+    public static final String CONTINUOUS_PROPERTY = "poker.shoe.continuous";
+
+    // Largest shoe supported
+    public static final int MAX_DECKS = 8;
+
+    private final byte[] cards; // Card codes; a continuous shoe keeps dealt cards at the end
+    private final int cutCard; // Cards a finite shoe deals before it must be shuffled
+    private final boolean continuous;
+    private final DeckRandom random;
+    private int cursor; // Finite shoe: next card to deal
+    private int available; // Continuous shoe: cards still in the machine
+
+    private Shoe(int decks, double penetration, boolean continuous, DeckRandom random) {
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("A shoe must hold between 1 and " + MAX_DECKS + " decks.");
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be greater than 0 and at most 1.");
+        }
+        this.cards = new byte[decks * CardCodec.DECK_SIZE];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CardCodec.DECK_SIZE);
+        }
+        this.cutCard = (int) Math.round(cards.length * penetration);
+        this.continuous = continuous;
+        this.random = random;
+        shuffle();
+    }
+
+    /**
+     * Creates a shoe that is dealt down to a cut card and then reshuffled.
+     *
+     * @param decks the number of decks, from 1 to 8
+     * @param penetration the fraction of the shoe dealt before reshuffling, greater than 0 and at most 1
+     * @param random the shoe's random stream, which it then owns
+     * @return a shuffled shoe
+     */
+    public static Shoe finite(int decks, double penetration, DeckRandom random) {
+        return new Shoe(decks, penetration, false, random);
+    }
+
+    /**
+     * Creates a continuous shuffling machine that takes back the cards of each round.
+     *
+     * @param decks the number of decks, from 1 to 8
+     * @param random the machine's random stream, which it then owns
+     * @return a loaded machine
+     */
+    public static Shoe continuous(int decks, DeckRandom random) {
+        return new Shoe(decks, 1.0, true, random);
+    }
+
+    /**
+     * Creates the card source configured by the "poker.shoe.*" system properties. A single
+     * deck dealt to the end is taken from the shared DeckPool, so it is shuffled ahead of time.
+     *
+     * @return a card source for one dealer
+     */
+    public static CardSource configured() {
+        int decks = Integer.getInteger(DECKS_PROPERTY, 1);
+        boolean continuous = Boolean.getBoolean(CONTINUOUS_PROPERTY);
+        double penetration = Double.parseDouble(System.getProperty(PENETRATION_PROPERTY, "0.75"));
+        if (decks == 1 && !continuous) {
+            return DeckPool.shared().cardSource();
+        }
+        DeckRandom random = DeckRandom.named(System.getProperty(DeckRandom.SHUFFLE_PROPERTY));
+        return continuous ? continuous(decks, random) : finite(decks, penetration, random);
+    }
+
+    /**
+     * @return the number of decks in the shoe
+     */
+    public int getDecks() {
+        return cards.length / CardCodec.DECK_SIZE;
+    }
+
+    /**
+     * @return true if this shoe models a continuous shuffling machine
+     */
+    public boolean isContinuous() {
+        return continuous;
+    }
+
+    @Override
+    public int dealCode() {
+        if (continuous) {
+            if (available == 0) {
+                throw new IllegalStateException("Shuffling machine is empty. Cannot deal more cards.");
+            }
+            // Draw at random and park the card after the ones still in the machine
+            int index = random.nextInt(available);
+            byte code = cards[index];
+            cards[index] = cards[--available];
+            cards[available] = code;
+            return code;
+        }
+
+        if (cursor == cards.length) {
+            throw new IllegalStateException("Shoe is empty. Cannot deal more cards.");
+        }
+        return cards[cursor++];
+    }
+
+    @Override
+    public int size() {
+        return continuous ? available : Math.max(0, cutCard - cursor);
+    }
+
+    @Override
+    public void shuffle() {
+        if (continuous) {
+            available = cards.length; // Cards are drawn at random, so there is nothing to reorder
+            return;
+        }
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+        cursor = 0;
+    }
+
+    /**
+     * A continuous shuffler puts every dealt card back in the machine; a finite shoe keeps
+     * them in the discard tray until it is reshuffled.
+     */
+    @Override
+    public void endRound() {
+        if (continuous) {
+            available = cards.length;
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
 
 public class ThreeCardLogic {
 	
@@ -17,99 +14,197 @@ public class ThreeCardLogic {
     public static final int TIE = 0;        // Indicates a tie
 
 
-	  // Map of hand evaluators to their values
-    private static final LinkedHashMap<Function<ArrayList<Card>, Boolean>, Integer> HAND_RANKS = new LinkedHashMap<>();
-
-    static {
-        HAND_RANKS.put(ThreeCardLogic::isStraightFlush, 1);
-        HAND_RANKS.put(ThreeCardLogic::isThreeOfAKind, 2);
-        HAND_RANKS.put(ThreeCardLogic::isStraight, 3);
-        HAND_RANKS.put(ThreeCardLogic::isFlush, 4);
-        HAND_RANKS.put(ThreeCardLogic::isPair, 5);
+    // Evaluates the value of a hand
+    public static int evalHand(ArrayList<Card> hand) {
+        return evalHand(PackedHand.of(hand));
     }
 
-    // Map of winnings multipliers for Pair Plus bets
-    private static final Map<Integer, Integer> PAIR_PLUS_MULTIPLIERS = Map.of(
-            1, 40, // Straight Flush
-            2, 30, // Three of a Kind
-            3, 6,  // Straight
-            4, 3,  // Flush
-            5, 1   // Pair
-    );
+    // Evaluates the value of a Hand without unpacking its cards
+    public static int evalHand(Hand hand) {
+        return evalHand(hand.packed());
+    }
 
-    // Evaluates the value of a hand
-    public static int evalHand(ArrayList<Card> hand) {
-        if (hand == null || hand.size() < 3) {
+    // Evaluates the value of a packed hand; incomplete hands evaluate to 0
+    public static int evalHand(int packed) {
+        if (PackedHand.size(packed) < 3) {
             return 0; // Invalid or incomplete hand
         }
+        return evalHand(PackedHand.card(packed, 0), PackedHand.card(packed, 1), PackedHand.card(packed, 2));
+    }
 
-        return HAND_RANKS.entrySet().stream()
-                .filter(entry -> entry.getKey().apply(hand))
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .orElse(0); // Default to 0 (High card)
+    // Evaluates the value of three card codes with a single lookup in the precomputed hand table
+    public static int evalHand(int c0, int c1, int c2) {
+        return HandRankTable.rank(c0, c1, c2);
+    }
+
+
+    // Evaluates a whole array of packed hands, writing each hand value to the matching slot of handValues
+    public static void evalHands(int[] packedHands, int[] handValues) {
+        evalHands(packedHands, 0, handValues, 0, packedHands.length);
+    }
+
+    // Evaluates count packed hands starting at offset, writing hand values starting at outOffset
+    public static void evalHands(int[] packedHands, int offset, int[] handValues, int outOffset, int count) {
+        Objects.checkFromIndexSize(offset, count, packedHands.length);
+        Objects.checkFromIndexSize(outOffset, count, handValues.length);
+        HandRankTable.ranks(packedHands, offset, handValues, outOffset, count);
     }
 
 
     // Evaluates Pair Plus winnings
     public static int evalPPWinnings(ArrayList<Card> hand, int bet) {
-        int handValue = evalHand(hand);
-        return PAIR_PLUS_MULTIPLIERS.getOrDefault(handValue, 0) * bet;
+        return evalPPWinnings(PackedHand.of(hand), bet);
+    }
+
+    // Evaluates Pair Plus winnings for a Hand
+    public static int evalPPWinnings(Hand hand, int bet) {
+        return evalPPWinnings(hand.packed(), bet);
+    }
+
+    // Evaluates Pair Plus winnings for a packed hand under the active paytable
+    public static int evalPPWinnings(int packed, int bet) {
+        return Paytable.active().pairPlusWinnings(evalHand(packed), bet);
+    }
+
+    // Scores a hand so that a stronger hand always has a larger score
+    public static int handStrength(ArrayList<Card> hand) {
+        return handStrength(PackedHand.of(hand));
+    }
+
+    // Scores a Hand without unpacking its cards
+    public static int handStrength(Hand hand) {
+        return handStrength(hand.packed());
+    }
+
+    // Scores a packed hand; incomplete hands score 0, below every complete hand
+    public static int handStrength(int packed) {
+        if (PackedHand.size(packed) < 3) {
+            return 0;
+        }
+        return handStrength(PackedHand.card(packed, 0), PackedHand.card(packed, 1), PackedHand.card(packed, 2));
+    }
+
+    // Scores three card codes with a single lookup in the precomputed hand table
+    public static int handStrength(int c0, int c1, int c2) {
+        return HandRankTable.strength(c0, c1, c2);
+    }
+
+    // Scores a whole array of packed hands, writing each strength to the matching slot of strengths
+    public static void handStrengths(int[] packedHands, int[] strengths) {
+        handStrengths(packedHands, 0, strengths, 0, packedHands.length);
+    }
+
+    // Scores count packed hands starting at offset, writing strengths starting at outOffset
+    public static void handStrengths(int[] packedHands, int offset, int[] strengths, int outOffset, int count) {
+        Objects.checkFromIndexSize(offset, count, packedHands.length);
+        Objects.checkFromIndexSize(outOffset, count, strengths.length);
+        HandRankTable.strengths(packedHands, offset, strengths, outOffset, count);
     }
 
     // Compares dealer's hand and player's hand
     public static int compareHands(ArrayList<Card> dealer, ArrayList<Card> player) {
-        int dealerValue = evalHand(dealer);
-        int playerValue = evalHand(player);
+        return compareHands(PackedHand.of(dealer), PackedHand.of(player));
+    }
 
-        if (playerValue > dealerValue) return PLAYER_WIN;
-        if (playerValue < dealerValue) return DEALER_WIN;
+    // Compares dealer's Hand and player's Hand
+    public static int compareHands(Hand dealer, Hand player) {
+        return compareHands(dealer.packed(), player.packed());
+    }
 
-        // If ranks are equal, compare high cards
-        ArrayList<Card> sortedDealer = new ArrayList<>(dealer);
-        ArrayList<Card> sortedPlayer = new ArrayList<>(player);
-        sortedDealer.sort(Comparator.comparingInt(Card::getValue).reversed());
-        sortedPlayer.sort(Comparator.comparingInt(Card::getValue).reversed());
+    // Compares dealer's packed hand and player's packed hand by their strength scores
+    public static int compareHands(int dealerPacked, int playerPacked) {
+        int dealerStrength = handStrength(dealerPacked);
+        int playerStrength = handStrength(playerPacked);
 
-        for (int i = 0; i < sortedDealer.size(); i++) {
-            if (sortedPlayer.get(i).getValue() > sortedDealer.get(i).getValue()) return PLAYER_WIN;
-            if (sortedPlayer.get(i).getValue() < sortedDealer.get(i).getValue()) return DEALER_WIN;
-        }
+        if (playerStrength > dealerStrength) return PLAYER_WIN;
+        if (playerStrength < dealerStrength) return DEALER_WIN;
 
         return TIE; // Complete tie
     }
 
 
+    // Returns true if making the Play bet with this hand has a higher expected value than folding
+    public static boolean shouldPlay(ArrayList<Card> hand) {
+        return shouldPlay(PackedHand.of(hand));
+    }
+
+    // Returns true if making the Play bet with this complete Hand beats folding
+    public static boolean shouldPlay(Hand hand) {
+        return shouldPlay(hand.packed());
+    }
+
+    // Returns true if making the Play bet with this complete packed hand beats folding
+    public static boolean shouldPlay(int packed) {
+        return shouldPlay(packed, Paytable.active());
+    }
+
+    // Returns true if making the Play bet with this complete packed hand beats folding under a paytable
+    public static boolean shouldPlay(int packed, Paytable paytable) {
+        checkComplete(packed);
+        return paytable.decisions().shouldPlay(
+                PackedHand.card(packed, 0), PackedHand.card(packed, 1), PackedHand.card(packed, 2));
+    }
+
+    // Expected net result of playing this complete packed hand, per unit of Ante
+    public static double playExpectedValue(int packed) {
+        return playExpectedValue(packed, Paytable.active());
+    }
+
+    // Expected net result of playing this complete packed hand under a paytable, per unit of Ante
+    public static double playExpectedValue(int packed, Paytable paytable) {
+        checkComplete(packed);
+        return paytable.decisions().playExpectedValue(
+                PackedHand.card(packed, 0), PackedHand.card(packed, 1), PackedHand.card(packed, 2));
+    }
+
+    // An empty slot reads as card code 0, so a short hand would pass as one nobody holds
+    private static void checkComplete(int packed) {
+        if (PackedHand.size(packed) != 3) {
+            throw new IllegalArgumentException("Expected a hand of three different cards.");
+        }
+    }
+
+    // Expected net result of folding any hand, per unit of Ante
+    public static double foldExpectedValue() {
+        return PlayDecisionTable.FOLD_EXPECTED_VALUE;
+    }
+
+    // Generates the active paytable's Play/Fold decision table now, so the first decision does not pay for it
+    public static void preloadDecisionTable() {
+        Paytable.active().decisions();
+    }
+
+
     // Helper: Checks for a straight flush
     public static boolean isStraightFlush(ArrayList<Card> hand) {
-        return isFlush(hand) && isStraight(hand);
+        int flags = flags(hand);
+        return (flags & HandRankTable.FLUSH) != 0 && (flags & HandRankTable.STRAIGHT) != 0;
     }
 
     // Helper: Checks for three of a kind
     public static boolean isThreeOfAKind(ArrayList<Card> hand) {
-        return hand.get(0).getValue() == hand.get(1).getValue() &&
-               hand.get(1).getValue() == hand.get(2).getValue();
+        return (flags(hand) & HandRankTable.THREE_OF_A_KIND) != 0;
     }
 
     // Helper: Checks for a straight
     public static boolean isStraight(ArrayList<Card> hand) {
-        ArrayList<Card> sortedHand = new ArrayList<>(hand);
-        sortedHand.sort(Comparator.comparingInt(Card::getValue));
-        return sortedHand.get(2).getValue() - sortedHand.get(1).getValue() == 1 &&
-               sortedHand.get(1).getValue() - sortedHand.get(0).getValue() == 1;
+        return (flags(hand) & HandRankTable.STRAIGHT) != 0;
     }
 
     // Helper: Checks for a flush
     public static boolean isFlush(ArrayList<Card> hand) {
-        return hand.get(0).getSuit() == hand.get(1).getSuit() &&
-               hand.get(1).getSuit() == hand.get(2).getSuit();
+        return (flags(hand) & HandRankTable.FLUSH) != 0;
     }
 
     // Helper: Checks for a pair
     public static boolean isPair(ArrayList<Card> hand) {
-        return hand.get(0).getValue() == hand.get(1).getValue() ||
-               hand.get(1).getValue() == hand.get(2).getValue() ||
-               hand.get(0).getValue() == hand.get(2).getValue();
+        return (flags(hand) & HandRankTable.PAIR) != 0;
+    }
+
+    // Looks up the predicate flags for the first three cards of a hand
+    private static int flags(ArrayList<Card> hand) {
+        return HandRankTable.flags(CardCodec.encode(hand.get(0)), CardCodec.encode(hand.get(1)),
+                CardCodec.encode(hand.get(2)));
     }
 	
 }
@@ -0,0 +1,112 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import model.PokerInfo;
+
+/**
+ * A table update sent to several clients, encoded once for all of them.
+ * Each client's StateEncoder asks for the frame that fits what that client already holds.
+ * Clients that received the same update before, with the same sequence number, get the very
+ * same frame, so a table in step encodes each update only once. A client that fell out of
+ * step, for instance after its queue dropped an update, gets a frame of its own.
+ */
+public final class Broadcast {
+    private final PokerInfo state; // Never changed after construction
+    private final boolean result;
+    private final AtomicInteger pendingRecipients;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Encoded> encoded = new ArrayList<>(1); // Guarded by lock
+
+    // A frame and the inputs that produced it
+    private static final class Encoded {
+        final PokerInfo baseline;
+        final int sequence;
+        final SharedFrame frame;
+
+        Encoded(PokerInfo baseline, int sequence, SharedFrame frame) {
+            this.baseline = baseline;
+            this.sequence = sequence;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * @param info the state to send; copied, so the caller may keep changing it
+     * @param result whether the update settles a hand
+     * @param recipients the number of clients it will be offered to
+     */
+    public Broadcast(PokerInfo info, boolean result, int recipients) {
+        this.state = new PokerInfo(info);
+        this.result = result;
+        this.pendingRecipients = new AtomicInteger(recipients);
+    }
+
+    /**
+     * @return the state being sent; must not be changed
+     */
+    public PokerInfo state() {
+        return state;
+    }
+
+    /**
+     * @return whether the update settles a hand
+     */
+    public boolean isResult() {
+        return result;
+    }
+
+    /**
+     * Returns the frame for a client, encoding it only if no client with the same baseline
+     * and sequence number has asked before.
+     *
+     * @param baseline the state the client holds, or null for a snapshot
+     * @param sequence the update's sequence number for that client
+     * @return the frame, with one reference owned by the caller
+     */
+    SharedFrame frameFor(PokerInfo baseline, int sequence) {
+        lock.lock();
+        try {
+            for (Encoded entry : encoded) {
+                if (entry.baseline == baseline && entry.sequence == sequence) {
+                    return entry.frame.retain();
+                }
+            }
+            byte[] payload;
+            if (baseline != null) {
+                payload = GameProtocol.encodeDelta(sequence, baseline, state, result);
+            } else if (result) {
+                payload = GameProtocol.encodeResult(sequence, state);
+            } else {
+                payload = GameProtocol.encodeState(sequence, state);
+            }
+            SharedFrame frame = SharedFrame.of(payload); // This reference is the cache's
+            encoded.add(new Encoded(baseline, sequence, frame));
+            return frame.retain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that one recipient has taken or discarded the update. After the last, the
+     * cached frames are released; they return to the pool once their writers finish.
+     */
+    public void done() {
+        if (pendingRecipients.decrementAndGet() != 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Encoded entry : encoded) {
+                entry.frame.release();
+            }
+            encoded.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
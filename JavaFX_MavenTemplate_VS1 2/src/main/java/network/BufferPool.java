@@ -0,0 +1,89 @@
+package network;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of equally sized buffers, direct by default, shared by the event loops.
+ * Direct buffers are costly to allocate and free, so connections borrow one for a read or
+ * an outgoing frame and hand it back afterwards; idle connections hold no buffer at all.
+ * Heap pools hold frames that are also written through blocking streams, which need an
+ * array.
+ */
+public final class BufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final boolean direct;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * @param bufferSize the capacity of every buffer in the pool
+     * @param maxPooled how many free buffers to keep; extra released buffers are dropped
+     */
+    public BufferPool(int bufferSize, int maxPooled) {
+        this(bufferSize, maxPooled, true);
+    }
+
+    /**
+     * @param bufferSize the capacity of every buffer in the pool
+     * @param maxPooled how many free buffers to keep; extra released buffers are dropped
+     * @param direct whether the pool holds direct or heap buffers
+     */
+    public BufferPool(int bufferSize, int maxPooled, boolean direct) {
+        if (bufferSize < 64 || maxPooled < 0) {
+            throw new IllegalArgumentException("Buffer size must be at least 64 bytes and the pool non-negative.");
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+        this.direct = direct;
+    }
+
+    /**
+     * Borrows a cleared buffer, allocating one if the pool is empty.
+     *
+     * @return a buffer of bufferSize() bytes
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        }
+        pooled.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that did not come from a pool of this size are
+     * ignored, so callers may release any buffer they are done with.
+     *
+     * @param buffer the buffer to return
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.isDirect() != direct || buffer.capacity() != bufferSize) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= maxPooled) {
+            free.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the capacity of every buffer in the pool
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return the number of free buffers currently pooled
+     */
+    public int available() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,313 @@
+package network;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * A client connection served by an NioServer event loop.
+ * Messages travel as frames: a four-byte big-endian payload length followed by the payload.
+ * Reads and writes never block. Any thread may send or close; the socket work is handed to
+ * the connection's event loop, and received frames are passed to the ConnectionListener on
+ * the handler executor.
+ */
+public final class Connection {
+    private static final Logger LOG = Log.getLogger(Connection.class);
+
+    private final SocketChannel channel;
+    private final EventLoop loop;
+    private final BufferPool buffers;
+    private final ConnectionListener listener;
+    private final SerialExecutor handler; // Runs listener callbacks in order, off the event loop
+    private final Queue<Outgoing> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingFrames = new AtomicInteger(); // Frames queued but not fully written
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final SocketAddress remoteAddress;
+    private SelectionKey key;
+    private ByteBuffer readBuffer; // Holds a partial frame between reads; null when idle
+    private byte[] largeFrame; // A frame too large for a pooled buffer, filled across reads
+    private int largeFrameFilled;
+    private volatile Object attachment;
+
+    Connection(SocketChannel channel, EventLoop loop, BufferPool buffers, ConnectionListener listener,
+               Executor handlerExecutor) throws IOException {
+        this.channel = channel;
+        this.loop = loop;
+        this.buffers = buffers;
+        this.listener = listener;
+        this.remoteAddress = channel.getRemoteAddress();
+        this.handler = new SerialExecutor(handlerExecutor, "connection " + remoteAddress);
+    }
+
+    // A frame being written: a pooled buffer of this connection's, or a view of a shared frame
+    private static final class Outgoing {
+        final ByteBuffer data;
+        final SharedFrame shared; // Null when data belongs to the buffer pool
+
+        Outgoing(ByteBuffer data, SharedFrame shared) {
+            this.data = data;
+            this.shared = shared;
+        }
+    }
+
+    /**
+     * @return the address of the client
+     */
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * Attaches application state, such as the handler serving this client.
+     *
+     * @param attachment the object to attach
+     */
+    public void attach(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    /**
+     * @return the attached application state, or null
+     */
+    public Object attachment() {
+        return attachment;
+    }
+
+    /**
+     * @return true once the connection has closed
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return the number of frames queued but not yet fully written to the socket
+     */
+    public int pendingFrames() {
+        return pendingFrames.get();
+    }
+
+    /**
+     * Queues a frame for sending. Never blocks; the event loop writes it when the socket
+     * can take it. The listener's onDrained follows once every queued frame is written.
+     *
+     * @param payload the frame payload
+     * @throws IllegalArgumentException if the payload exceeds NioServer.MAX_FRAME_BYTES
+     */
+    public void send(byte[] payload) {
+        if (payload.length > NioServer.MAX_FRAME_BYTES) {
+            throw new IllegalArgumentException("Frame of " + payload.length + " bytes is too large.");
+        }
+        if (closed.get()) {
+            return;
+        }
+        ByteBuffer frame = payload.length + 4 <= buffers.bufferSize()
+                ? buffers.acquire() : ByteBuffer.allocate(payload.length + 4);
+        frame.putInt(payload.length).put(payload).flip();
+        enqueue(new Outgoing(frame, null));
+    }
+
+    /**
+     * Queues a frame built once for many clients, without copying it. Takes over the
+     * caller's reference, which is released once the frame is written or dropped.
+     *
+     * @param frame the frame to send
+     */
+    public void send(SharedFrame frame) {
+        if (closed.get()) {
+            frame.release();
+            return;
+        }
+        enqueue(new Outgoing(frame.view(), frame));
+    }
+
+    private void enqueue(Outgoing frame) {
+        pendingFrames.incrementAndGet();
+        outbound.add(frame);
+        if (flushScheduled.compareAndSet(false, true)) {
+            loop.execute(this::flush);
+        }
+        if (closed.get()) {
+            loop.execute(this::drop); // Closed meanwhile; closeNow may have missed this frame
+        }
+    }
+
+    /**
+     * Closes the connection once queued frames have been handed to the event loop.
+     */
+    public void close() {
+        loop.execute(this::closeNow);
+    }
+
+    // Registers with the event loop's selector; runs on the loop thread
+    void register() {
+        try {
+            key = channel.register(loop.selector(), SelectionKey.OP_READ, this);
+            handler.execute(() -> listener.onOpen(this));
+        } catch (ClosedChannelException e) {
+            closeNow();
+        }
+    }
+
+    // Reads what is available and dispatches every complete frame; runs on the loop thread
+    void onReadable() {
+        ByteBuffer buffer = readBuffer != null ? readBuffer : buffers.acquire();
+        readBuffer = null;
+        int read;
+        try {
+            read = channel.read(buffer);
+        } catch (IOException e) {
+            buffers.release(buffer);
+            closeNow();
+            return;
+        }
+        if (read < 0) {
+            buffers.release(buffer);
+            closeNow();
+            return;
+        }
+
+        buffer.flip();
+        if (!readFrames(buffer)) {
+            buffers.release(buffer);
+            closeNow();
+            return;
+        }
+        if (buffer.hasRemaining()) {
+            buffer.compact(); // Keep the partial frame for the next read
+            readBuffer = buffer;
+        } else {
+            buffers.release(buffer);
+        }
+    }
+
+    // Returns false if the peer sent a malformed frame
+    private boolean readFrames(ByteBuffer buffer) {
+        while (true) {
+            if (largeFrame != null) {
+                int count = Math.min(buffer.remaining(), largeFrame.length - largeFrameFilled);
+                buffer.get(largeFrame, largeFrameFilled, count);
+                largeFrameFilled += count;
+                if (largeFrameFilled < largeFrame.length) {
+                    return true;
+                }
+                dispatch(largeFrame);
+                largeFrame = null;
+            }
+
+            if (buffer.remaining() < 4) {
+                return true;
+            }
+            int length = buffer.getInt(buffer.position());
+            if (length < 0 || length > NioServer.MAX_FRAME_BYTES) {
+                LOG.warn("Closing " + remoteAddress + ": invalid frame length " + length);
+                return false;
+            }
+            if (length + 4 > buffer.capacity()) {
+                // Too large for a pooled buffer: collect it in its own array across reads
+                buffer.position(buffer.position() + 4);
+                largeFrame = new byte[length];
+                largeFrameFilled = 0;
+                continue;
+            }
+            if (buffer.remaining() < length + 4) {
+                return true;
+            }
+            buffer.position(buffer.position() + 4);
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            dispatch(payload);
+        }
+    }
+
+    private void dispatch(byte[] payload) {
+        handler.execute(() -> listener.onFrame(this, payload));
+    }
+
+    // Writes queued frames until the socket is full or the queue is empty; runs on the loop thread
+    void flush() {
+        if (closed.get()) {
+            return;
+        }
+        boolean wrote = false;
+        try {
+            Outgoing frame;
+            while ((frame = outbound.peek()) != null) {
+                channel.write(frame.data);
+                if (frame.data.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE); // Resume when writable
+                    return;
+                }
+                outbound.poll();
+                release(frame);
+                pendingFrames.decrementAndGet();
+                wrote = true;
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            closeNow();
+            return;
+        }
+        if (wrote) {
+            handler.execute(() -> listener.onDrained(this));
+        }
+
+        flushScheduled.set(false);
+        // A frame may have been queued after the queue was found empty
+        if (!outbound.isEmpty() && flushScheduled.compareAndSet(false, true)) {
+            loop.execute(this::flush);
+        }
+    }
+
+    void onWritable() {
+        flush();
+    }
+
+    // Closes the channel and frees buffers; runs on the loop thread
+    void closeNow() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.debug("Error closing " + remoteAddress + ": " + e.getMessage());
+        }
+        buffers.release(readBuffer);
+        readBuffer = null;
+        drop();
+        handler.execute(() -> listener.onClose(this));
+    }
+
+    // Frees every queued frame of a closed connection; runs on the loop thread
+    private void drop() {
+        Outgoing frame;
+        while ((frame = outbound.poll()) != null) {
+            release(frame);
+            pendingFrames.decrementAndGet();
+        }
+    }
+
+    private void release(Outgoing frame) {
+        if (frame.shared != null) {
+            frame.shared.release();
+        } else {
+            buffers.release(frame.data);
+        }
+    }
+}
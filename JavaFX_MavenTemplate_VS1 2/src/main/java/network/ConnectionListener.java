@@ -0,0 +1,40 @@
+package network;
+
+/**
+ * Receives the events of NioServer connections.
+ * Callbacks run on the server's handler executor, never on an event-loop thread, and the
+ * callbacks of one connection never overlap and arrive in order, so they may block.
+ */
+public interface ConnectionListener {
+
+    /**
+     * Called once when a client connects.
+     *
+     * @param connection the new connection
+     */
+    void onOpen(Connection connection);
+
+    /**
+     * Called for each complete frame received.
+     *
+     * @param connection the connection that sent the frame
+     * @param payload the frame's payload, without its length prefix
+     */
+    void onFrame(Connection connection, byte[] payload);
+
+    /**
+     * Called when every frame queued for sending has been written to the socket, so a
+     * listener that holds back messages for a slow client may send more.
+     *
+     * @param connection the connection whose frames were written
+     */
+    default void onDrained(Connection connection) {
+    }
+
+    /**
+     * Called once when the connection has closed, from either side.
+     *
+     * @param connection the closed connection
+     */
+    void onClose(Connection connection);
+}
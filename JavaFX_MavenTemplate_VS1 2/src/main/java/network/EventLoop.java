@@ -0,0 +1,114 @@
+package network;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * One selector thread serving many connections.
+ * Other threads hand work to the loop with execute, which wakes the selector; everything
+ * that touches a channel or its selection key runs on the loop thread. Tasks the loop gives
+ * itself while handling keys do not wake the selector, so it only blocks when none are left.
+ */
+final class EventLoop implements Runnable {
+    private static final Logger LOG = Log.getLogger(EventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    EventLoop(String name) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs a task on the loop thread, waking the selector if needed.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (!inLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (tasks.isEmpty()) {
+                    selector.select();
+                } else {
+                    selector.selectNow(); // Tasks queued while handling the last keys
+                }
+                runTasks();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Connection connection = (Connection) key.attachment();
+                    if (!key.isValid()) {
+                        connection.closeNow();
+                        continue;
+                    }
+                    if (key.isReadable()) {
+                        connection.onReadable();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.onWritable();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            LOG.error("Event loop " + thread.getName() + " stopped.", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).closeNow();
+            }
+            runTasks();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                LOG.warn("Could not close selector: " + e.getMessage());
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.error("Event loop task failed.", e);
+            }
+        }
+    }
+}
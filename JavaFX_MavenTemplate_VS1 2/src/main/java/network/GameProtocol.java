@@ -0,0 +1,536 @@
+package network;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import model.Card;
+import model.CardCodec;
+import model.Hand;
+import model.PackedHand;
+import model.PokerInfo;
+
+/**
+ * The binary messages exchanged by the poker server and its clients.
+ * Every message travels in a frame: a four-byte big-endian payload length, then the payload.
+ * The payload starts with a one-byte message type:
+ * <ul>
+ * <li>SEAT (server to client): the player's number, sent once when the player is seated</li>
+ * <li>DEAL (client to server): the Ante and Pair Plus bets for a new hand</li>
+ * <li>PLAY (client to server): the Play bet</li>
+ * <li>FOLD (client to server): no body</li>
+ * <li>STATE and RESULT (server to client): a snapshot of the table as the player sees it,
+ *     during a hand and once the hand is settled</li>
+ * <li>DELTA (server to client): only the table fields that changed since the previous
+ *     update, flagged in a bit mask</li>
+ * <li>RESYNC (client to server): no body; asks for a snapshot after the client saw a gap in
+ *     the sequence numbers</li>
+ * </ul>
+ * Every STATE, RESULT and DELTA carries a sequence number one higher than the update before
+ * it, so a client can tell that it applies a delta to the state the server diffed against.
+ * Amounts are zigzag varints, so small bets take one byte. Cards are single bytes holding
+ * their CardCodec code, hands are a count byte followed by their cards, and the game
+ * message is a length byte followed by at most 255 bytes of UTF-8.
+ */
+public final class GameProtocol {
+    public static final byte SEAT = 1;
+    public static final byte DEAL = 2;
+    public static final byte PLAY = 3;
+    public static final byte FOLD = 4;
+    public static final byte STATE = 5;
+    public static final byte RESULT = 6;
+    public static final byte DELTA = 7;
+    public static final byte RESYNC = 8;
+
+    // Bits of a DELTA's mask: which table fields follow, in this order
+    public static final int FLAGS_CHANGED = 1;
+    public static final int TURN_CHANGED = 1 << 1;
+    public static final int ANTE_CHANGED = 1 << 2;
+    public static final int PAIR_PLUS_CHANGED = 1 << 3;
+    public static final int PLAY_CHANGED = 1 << 4;
+    public static final int WINNINGS_CHANGED = 1 << 5;
+    public static final int MESSAGE_CHANGED = 1 << 6;
+    public static final int PLAYER_HAND_CHANGED = 1 << 7;
+    public static final int OPPONENT_HAND_CHANGED = 1 << 8;
+    public static final int DEALER_HAND_CHANGED = 1 << 9;
+    // Set when the delta settles a hand, as a RESULT does; no field follows
+    public static final int SETTLED = 1 << 10;
+
+    private static final int ALL_FIELDS = (1 << 10) - 1;
+
+    // Largest payload of any message: a full update with a full message and three full hands
+    public static final int MAX_MESSAGE_BYTES = 1 + 5 + 5 + 2 + 4 * 5 + 256 + 3 * 4;
+
+    private static final int MAX_STRING_BYTES = 255;
+
+    // STATE and RESULT flag bits
+    private static final int DEALER_HIDDEN = 1;
+    private static final int FOLDED = 1 << 1;
+    private static final int NEW_ROUND = 1 << 2;
+
+    private GameProtocol() {
+    }
+
+    /**
+     * @param playerNumber the player's number at the table
+     * @return a SEAT payload
+     */
+    public static byte[] encodeSeat(int playerNumber) {
+        return new byte[] {SEAT, (byte) playerNumber};
+    }
+
+    /**
+     * @param anteBet the Ante bet
+     * @param pairPlusBet the Pair Plus bet
+     * @return a DEAL payload
+     */
+    public static byte[] encodeDeal(int anteBet, int pairPlusBet) {
+        Writer out = new Writer(DEAL);
+        out.zigzag(anteBet);
+        out.zigzag(pairPlusBet);
+        return out.toByteArray();
+    }
+
+    /**
+     * @param playBet the Play bet
+     * @return a PLAY payload
+     */
+    public static byte[] encodePlay(int playBet) {
+        Writer out = new Writer(PLAY);
+        out.zigzag(playBet);
+        return out.toByteArray();
+    }
+
+    /**
+     * @return a FOLD payload
+     */
+    public static byte[] encodeFold() {
+        return new byte[] {FOLD};
+    }
+
+    /**
+     * @return a RESYNC payload
+     */
+    public static byte[] encodeResync() {
+        return new byte[] {RESYNC};
+    }
+
+    /**
+     * Encodes a snapshot of the table state. The dealer's cards are left out while they are
+     * hidden.
+     *
+     * @param sequence the update's sequence number
+     * @param info the state to send
+     * @return a STATE payload
+     */
+    public static byte[] encodeState(int sequence, PokerInfo info) {
+        return encodeSnapshot(STATE, sequence, info);
+    }
+
+    /**
+     * Encodes a snapshot of the state of a settled hand.
+     *
+     * @param sequence the update's sequence number
+     * @param info the state to send
+     * @return a RESULT payload
+     */
+    public static byte[] encodeResult(int sequence, PokerInfo info) {
+        return encodeSnapshot(RESULT, sequence, info);
+    }
+
+    /**
+     * Encodes the fields that differ between the state a client holds and the new state.
+     *
+     * @param sequence the update's sequence number, one past the update that sent previous
+     * @param previous the state the client holds
+     * @param current the new state
+     * @param settled whether the update settles a hand
+     * @return a DELTA payload
+     */
+    public static byte[] encodeDelta(int sequence, PokerInfo previous, PokerInfo current, boolean settled) {
+        int mask = changedFields(previous, current) | (settled ? SETTLED : 0);
+        Writer out = new Writer(DELTA);
+        out.varint(sequence);
+        out.varint(mask);
+        writeFields(out, current, mask);
+        return out.toByteArray();
+    }
+
+    /**
+     * @param previous the state a client holds
+     * @param current the new state
+     * @return the DELTA mask bits of the fields that differ
+     */
+    public static int changedFields(PokerInfo previous, PokerInfo current) {
+        int mask = 0;
+        if (flags(previous) != flags(current)) {
+            mask |= FLAGS_CHANGED;
+        }
+        if (previous.getCurrentTurn() != current.getCurrentTurn()) {
+            mask |= TURN_CHANGED;
+        }
+        if (previous.getAnteBet() != current.getAnteBet()) {
+            mask |= ANTE_CHANGED;
+        }
+        if (previous.getPairPlusBet() != current.getPairPlusBet()) {
+            mask |= PAIR_PLUS_CHANGED;
+        }
+        if (previous.getPlayBet() != current.getPlayBet()) {
+            mask |= PLAY_CHANGED;
+        }
+        if (previous.getTotalWinnings() != current.getTotalWinnings()) {
+            mask |= WINNINGS_CHANGED;
+        }
+        if (!previous.getGameMessage().equals(current.getGameMessage())) {
+            mask |= MESSAGE_CHANGED;
+        }
+        if (!previous.getPlayerHand().equals(current.getPlayerHand())) {
+            mask |= PLAYER_HAND_CHANGED;
+        }
+        if (!previous.getOpponentHand().equals(current.getOpponentHand())) {
+            mask |= OPPONENT_HAND_CHANGED;
+        }
+        if (!visibleDealerHand(previous).equals(visibleDealerHand(current))) {
+            mask |= DEALER_HAND_CHANGED;
+        }
+        return mask;
+    }
+
+    /**
+     * @param payload a STATE, RESULT or DELTA payload
+     * @return the update's sequence number
+     * @throws ProtocolException if the payload is malformed or of another type
+     */
+    public static int sequence(byte[] payload) throws ProtocolException {
+        Reader in = new Reader(payload);
+        byte type = in.u8Signed();
+        if (type != STATE && type != RESULT && type != DELTA) {
+            throw new ProtocolException("Not a table update: " + type);
+        }
+        return in.varint();
+    }
+
+    /**
+     * Applies a DELTA to the state a client holds.
+     *
+     * @param payload a DELTA payload
+     * @param state the state to update in place
+     * @return the DELTA's mask
+     * @throws ProtocolException if the payload is malformed or not a DELTA
+     */
+    public static int applyDelta(byte[] payload, PokerInfo state) throws ProtocolException {
+        Reader in = new Reader(payload);
+        if (in.u8Signed() != DELTA) {
+            throw new ProtocolException("Not a DELTA message.");
+        }
+        in.varint(); // Sequence number
+        int mask = in.varint();
+        readFields(in, state, mask);
+        in.expectEnd();
+        return mask;
+    }
+
+    /**
+     * @param payload a message payload
+     * @return the message type
+     * @throws ProtocolException if the payload is empty
+     */
+    public static byte type(byte[] payload) throws ProtocolException {
+        if (payload.length == 0) {
+            throw new ProtocolException("Empty message.");
+        }
+        return payload[0];
+    }
+
+    /**
+     * @param payload a SEAT payload
+     * @return the player's number
+     * @throws ProtocolException if the payload is not a SEAT message
+     */
+    public static int decodeSeat(byte[] payload) throws ProtocolException {
+        if (payload.length != 2 || payload[0] != SEAT) {
+            throw new ProtocolException("Not a SEAT message.");
+        }
+        return payload[1];
+    }
+
+    /**
+     * Decodes a DEAL, PLAY, FOLD, STATE or RESULT message into the fields it carries.
+     * A DELTA needs the state it applies to; see applyDelta.
+     *
+     * @param payload a message payload
+     * @return the decoded message
+     * @throws ProtocolException if the payload is malformed or of another type
+     */
+    public static PokerInfo decode(byte[] payload) throws ProtocolException {
+        Reader in = new Reader(payload);
+        PokerInfo info = new PokerInfo();
+        byte type = in.u8Signed();
+        switch (type) {
+            case DEAL:
+                info.setAnteBet(in.zigzag());
+                info.setPairPlusBet(in.zigzag());
+                break;
+            case PLAY:
+                info.setPlayBet(in.zigzag());
+                break;
+            case FOLD:
+                info.setPlayerFolded(true);
+                break;
+            case STATE:
+            case RESULT:
+                in.varint(); // Sequence number
+                readFields(in, info, ALL_FIELDS);
+                break;
+            default:
+                throw new ProtocolException("Unknown message type " + type + ".");
+        }
+        in.expectEnd();
+        return info;
+    }
+
+    /**
+     * Writes one frame.
+     *
+     * @param out the stream to write to
+     * @param payload the message payload
+     * @throws IOException if the stream fails
+     */
+    public static void writeFrame(DataOutputStream out, byte[] payload) throws IOException {
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    /**
+     * Reads one frame.
+     *
+     * @param in the stream to read from
+     * @return the message payload
+     * @throws IOException if the stream fails or the frame is too large
+     */
+    public static byte[] readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 1 || length > MAX_MESSAGE_BYTES) {
+            throw new ProtocolException("Invalid frame length " + length + ".");
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return payload;
+    }
+
+    private static byte[] encodeSnapshot(byte type, int sequence, PokerInfo info) {
+        Writer out = new Writer(type);
+        out.varint(sequence);
+        writeFields(out, info, ALL_FIELDS);
+        return out.toByteArray();
+    }
+
+    // Writes the fields selected by a DELTA mask, in mask bit order
+    private static void writeFields(Writer out, PokerInfo info, int mask) {
+        if ((mask & FLAGS_CHANGED) != 0) {
+            out.u8(flags(info));
+        }
+        if ((mask & TURN_CHANGED) != 0) {
+            out.u8(info.getCurrentTurn());
+        }
+        if ((mask & ANTE_CHANGED) != 0) {
+            out.zigzag(info.getAnteBet());
+        }
+        if ((mask & PAIR_PLUS_CHANGED) != 0) {
+            out.zigzag(info.getPairPlusBet());
+        }
+        if ((mask & PLAY_CHANGED) != 0) {
+            out.zigzag(info.getPlayBet());
+        }
+        if ((mask & WINNINGS_CHANGED) != 0) {
+            out.zigzag(info.getTotalWinnings());
+        }
+        if ((mask & MESSAGE_CHANGED) != 0) {
+            out.string(info.getGameMessage());
+        }
+        if ((mask & PLAYER_HAND_CHANGED) != 0) {
+            out.hand(info.getPlayerHand());
+        }
+        if ((mask & OPPONENT_HAND_CHANGED) != 0) {
+            out.hand(info.getOpponentHand());
+        }
+        if ((mask & DEALER_HAND_CHANGED) != 0) {
+            out.hand(visibleDealerHand(info));
+        }
+    }
+
+    // Reads the fields selected by a DELTA mask into a state
+    private static void readFields(Reader in, PokerInfo info, int mask) throws ProtocolException {
+        if ((mask & FLAGS_CHANGED) != 0) {
+            int flags = in.u8();
+            info.setDealerCardsHidden((flags & DEALER_HIDDEN) != 0);
+            info.setPlayerFolded((flags & FOLDED) != 0);
+            info.setNewRound((flags & NEW_ROUND) != 0);
+        }
+        if ((mask & TURN_CHANGED) != 0) {
+            info.setCurrentTurn(in.u8());
+        }
+        if ((mask & ANTE_CHANGED) != 0) {
+            info.setAnteBet(in.zigzag());
+        }
+        if ((mask & PAIR_PLUS_CHANGED) != 0) {
+            info.setPairPlusBet(in.zigzag());
+        }
+        if ((mask & PLAY_CHANGED) != 0) {
+            info.setPlayBet(in.zigzag());
+        }
+        if ((mask & WINNINGS_CHANGED) != 0) {
+            info.setTotalWinnings(in.zigzag());
+        }
+        if ((mask & MESSAGE_CHANGED) != 0) {
+            info.setGameMessage(in.string());
+        }
+        if ((mask & PLAYER_HAND_CHANGED) != 0) {
+            info.setPlayerHand(in.hand());
+        }
+        if ((mask & OPPONENT_HAND_CHANGED) != 0) {
+            info.setOpponentHand(in.hand());
+        }
+        if ((mask & DEALER_HAND_CHANGED) != 0) {
+            info.setDealerHand(in.hand());
+        }
+    }
+
+    private static int flags(PokerInfo info) {
+        return (info.isDealerCardsHidden() ? DEALER_HIDDEN : 0)
+                | (info.isPlayerFolded() ? FOLDED : 0)
+                | (info.isNewRound() ? NEW_ROUND : 0);
+    }
+
+    // The dealer's cards as the client may see them
+    private static Hand visibleDealerHand(PokerInfo info) {
+        return info.isDealerCardsHidden() ? Hand.EMPTY : info.getDealerHand();
+    }
+
+    // Appends fields to a buffer sized for the largest message
+    private static final class Writer {
+        private final byte[] buffer = new byte[MAX_MESSAGE_BYTES];
+        private int length;
+
+        Writer(byte type) {
+            buffer[length++] = type;
+        }
+
+        void u8(int value) {
+            buffer[length++] = (byte) value;
+        }
+
+        void varint(int bits) {
+            while ((bits & ~0x7F) != 0) {
+                buffer[length++] = (byte) ((bits & 0x7F) | 0x80);
+                bits >>>= 7;
+            }
+            buffer[length++] = (byte) bits;
+        }
+
+        void zigzag(int value) {
+            varint((value << 1) ^ (value >> 31));
+        }
+
+        void string(String value) {
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            int count = bytes.length;
+            if (count > MAX_STRING_BYTES) {
+                count = MAX_STRING_BYTES;
+                while ((bytes[count] & 0xC0) == 0x80) {
+                    count--; // Cut before a character, not inside one
+                }
+            }
+            u8(count);
+            System.arraycopy(bytes, 0, buffer, length, count);
+            length += count;
+        }
+
+        void hand(List<Card> cards) {
+            int packed = PackedHand.of(cards);
+            int size = PackedHand.size(packed);
+            u8(size);
+            for (int i = 0; i < size; i++) {
+                u8(PackedHand.card(packed, i));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    // Reads fields, rejecting payloads that end early or hold invalid values
+    private static final class Reader {
+        private final byte[] payload;
+        private int position;
+
+        Reader(byte[] payload) {
+            this.payload = payload;
+        }
+
+        byte u8Signed() throws ProtocolException {
+            if (position >= payload.length) {
+                throw new ProtocolException("Message ends early.");
+            }
+            return payload[position++];
+        }
+
+        int u8() throws ProtocolException {
+            return u8Signed() & 0xFF;
+        }
+
+        int varint() throws ProtocolException {
+            int bits = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = u8();
+                bits |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return bits;
+                }
+            }
+            throw new ProtocolException("Malformed number.");
+        }
+
+        int zigzag() throws ProtocolException {
+            int bits = varint();
+            return (bits >>> 1) ^ -(bits & 1);
+        }
+
+        String string() throws ProtocolException {
+            int count = u8();
+            if (position + count > payload.length) {
+                throw new ProtocolException("Message ends early.");
+            }
+            String value = new String(payload, position, count, StandardCharsets.UTF_8);
+            position += count;
+            return value;
+        }
+
+        Hand hand() throws ProtocolException {
+            int size = u8();
+            if (size > 3) {
+                throw new ProtocolException("Hand of " + size + " cards.");
+            }
+            int packed = PackedHand.EMPTY;
+            for (int i = 0; i < size; i++) {
+                int code = u8();
+                if (code >= CardCodec.DECK_SIZE) {
+                    throw new ProtocolException("Invalid card " + code + ".");
+                }
+                packed = PackedHand.add(packed, code);
+            }
+            return Hand.of(packed);
+        }
+
+        void expectEnd() throws ProtocolException {
+            if (position != payload.length) {
+                throw new ProtocolException("Unexpected bytes after message.");
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package network;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Executor;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Non-blocking TCP server that serves every connection from a few selector threads.
+ * An acceptor thread hands new sockets to the event loops in turn; each loop reads and
+ * writes its sockets without blocking, using buffers borrowed from a shared pool of direct
+ * buffers. Complete frames are passed to a ConnectionListener on a separate handler
+ * executor, so game logic never runs on, or blocks, an I/O thread.
+ */
+public final class NioServer implements Closeable {
+    private static final Logger LOG = Log.getLogger(NioServer.class);
+
+    // Largest frame payload accepted or sent
+    public static final int MAX_FRAME_BYTES = 64 * 1024;
+
+    // Size of each pooled direct buffer; larger frames use their own heap buffer
+    public static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ConnectionListener listener;
+    private final Executor handlerExecutor;
+    private final BufferPool buffers;
+    private final EventLoop[] loops;
+    private ServerSocketChannel serverChannel;
+    private Thread acceptor;
+    private volatile boolean running;
+    private int nextLoop;
+
+    /**
+     * @param eventLoops the number of selector threads
+     * @param listener receives connection events and frames
+     * @param handlerExecutor runs the listener's callbacks
+     * @throws IOException if a selector cannot be opened
+     */
+    public NioServer(int eventLoops, ConnectionListener listener, Executor handlerExecutor) throws IOException {
+        if (eventLoops < 1) {
+            throw new IllegalArgumentException("At least one event loop is required.");
+        }
+        this.listener = listener;
+        this.handlerExecutor = handlerExecutor;
+        this.buffers = new BufferPool(BUFFER_SIZE, 1024);
+        this.loops = new EventLoop[eventLoops];
+        for (int i = 0; i < eventLoops; i++) {
+            loops[i] = new EventLoop("nio-loop-" + i);
+        }
+    }
+
+    /**
+     * Binds the port and starts accepting connections.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public void bind(int port) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        running = true;
+        for (EventLoop loop : loops) {
+            loop.start();
+        }
+        acceptor = new Thread(this::acceptLoop, "nio-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("NIO server listening on port " + getPort() + " with " + loops.length + " event loops");
+    }
+
+    /**
+     * @return the bound port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Stops accepting, closes every connection and stops the event loops.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+
+    // Accepts sockets and spreads them over the event loops
+    private void acceptLoop() {
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                EventLoop loop = loops[nextLoop];
+                nextLoop = (nextLoop + 1) % loops.length;
+                Connection connection = new Connection(channel, loop, buffers, listener, handlerExecutor);
+                loop.execute(connection::register);
+            } catch (ClosedChannelException e) {
+                return; // Server closed
+            } catch (IOException e) {
+                if (running) {
+                    LOG.warn("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
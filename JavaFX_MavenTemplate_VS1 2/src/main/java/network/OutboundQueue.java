@@ -0,0 +1,328 @@
+package network;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import model.PokerInfo;
+
+/**
+ * A bounded queue of the messages waiting to be written to one client.
+ * Game threads add to it without ever blocking; the client's writer drains it. When a client
+ * reads more slowly than the game produces, its queue fills and the backpressure policy
+ * decides what gives, so a slow client can only hurt itself.
+ * Table updates are queued as state and encoded only when written, so a dropped update is
+ * simply covered by the next delta the client receives. Queued frames hold a reference to
+ * their SharedFrame, released when the frame is written or discarded.
+ */
+public final class OutboundQueue {
+    // System properties that size the queue and choose what happens when it is full
+    public static final String CAPACITY_PROPERTY = "poker.server.outboundCapacity";
+    public static final String POLICY_PROPERTY = "poker.server.backpressure";
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * What a full queue does with a new message.
+     */
+    public enum Policy {
+        /** Drops the oldest queued message to make room. */
+        DROP_OLDEST,
+        /** Drops queued table updates the new one supersedes; disconnects if there are none. */
+        COALESCE,
+        /** Disconnects the client. */
+        DISCONNECT;
+
+        /**
+         * @param name a policy name such as "drop-oldest", in any case
+         * @return the policy
+         * @throws IllegalArgumentException if no policy has that name
+         */
+        public static Policy parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * One queued message: a ready frame, a table update still to be encoded, or a resync
+     * answered with a snapshot of what the client last received.
+     */
+    public static final class Message {
+        private final SharedFrame frame;
+        private final Broadcast update;
+
+        private Message(SharedFrame frame, Broadcast update) {
+            this.frame = frame;
+            this.update = update;
+        }
+
+        /**
+         * Produces the frame to write. Call once per message.
+         *
+         * @param encoder the client's state encoder
+         * @return the frame, with one reference owned by the caller, or null if there is
+         *         nothing to write
+         */
+        public SharedFrame frame(StateEncoder encoder) {
+            if (frame != null) {
+                return frame;
+            }
+            if (update == null) {
+                return encoder.resync();
+            }
+            try {
+                return encoder.encode(update);
+            } finally {
+                update.done();
+            }
+        }
+
+        // Gives up the message without writing it
+        private void discard() {
+            if (frame != null) {
+                frame.release();
+            } else if (update != null) {
+                update.done();
+            }
+        }
+
+        // A mid-hand update, superseded by any later update
+        private boolean isStateUpdate() {
+            return update != null && !update.isResult();
+        }
+    }
+
+    private final int capacity;
+    private final Policy policy;
+    private final ArrayDeque<Message> queue = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private boolean closed;
+    private int highWaterMark; // Deepest the queue has been
+    private long dropped; // Messages discarded by the policy
+
+    /**
+     * @param capacity the most messages held at once
+     * @param policy what a full queue does with a new message
+     */
+    public OutboundQueue(int capacity, Policy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Creates a queue sized by "poker.server.outboundCapacity" (default 64) with the policy
+     * named by "poker.server.backpressure" (default coalesce).
+     */
+    public OutboundQueue() {
+        this(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY),
+                Policy.parse(System.getProperty(POLICY_PROPERTY, "coalesce")));
+    }
+
+    /**
+     * Queues a ready frame payload.
+     *
+     * @param payload the frame payload
+     * @return false if the queue is full and the client should be disconnected, or closed
+     */
+    public boolean offer(byte[] payload) {
+        return add(new Message(SharedFrame.of(payload), null));
+    }
+
+    /**
+     * Queues a frame, taking over the caller's reference to it.
+     *
+     * @param frame the frame to send
+     * @return false if the queue is full and the client should be disconnected, or closed
+     */
+    public boolean offer(SharedFrame frame) {
+        return add(new Message(frame, null));
+    }
+
+    /**
+     * Queues a table update. The state is copied, so the caller may keep changing it.
+     *
+     * @param info the state to send
+     * @param result whether the update settles a hand
+     * @return false if the queue is full and the client should be disconnected, or closed
+     */
+    public boolean offerState(PokerInfo info, boolean result) {
+        return offer(new Broadcast(info, result, 1));
+    }
+
+    /**
+     * Queues a table update shared with other clients. The update is told once this client
+     * has taken or discarded it, whether or not it was queued.
+     *
+     * @param update the update to send
+     * @return false if the queue is full and the client should be disconnected, or closed
+     */
+    public boolean offer(Broadcast update) {
+        return add(new Message(null, update));
+    }
+
+    /**
+     * Queues a resync: once the writer reaches it, the state the client last received is
+     * sent again as a snapshot, in order with the other messages.
+     *
+     * @return false if the queue is full and the client should be disconnected, or closed
+     */
+    public boolean offerResync() {
+        return add(new Message(null, null));
+    }
+
+    private boolean add(Message message) {
+        lock.lock();
+        try {
+            if (closed || (queue.size() >= capacity && !makeRoom(message))) {
+                message.discard();
+                return false;
+            }
+            queue.add(message);
+            highWaterMark = Math.max(highWaterMark, queue.size());
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Applies the policy to a full queue; returns false if the client should be disconnected
+    private boolean makeRoom(Message incoming) {
+        switch (policy) {
+            case DROP_OLDEST:
+                queue.poll().discard();
+                dropped++;
+                return true;
+            case COALESCE:
+                if (incoming.update == null) {
+                    return false; // Only table updates supersede one another
+                }
+                int before = queue.size();
+                for (Iterator<Message> it = queue.iterator(); it.hasNext(); ) {
+                    Message queued = it.next();
+                    if (queued.isStateUpdate()) {
+                        it.remove();
+                        queued.discard();
+                    }
+                }
+                dropped += before - queue.size();
+                return queue.size() < before;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Takes the next message, waiting for one if the queue is empty.
+     *
+     * @return the next message, or null once the queue is closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Message take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+            return closed ? null : queue.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the next message, or null if the queue is empty or closed
+     */
+    public Message poll() {
+        lock.lock();
+        try {
+            return closed ? null : queue.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards queued messages, rejects new ones and wakes a waiting writer.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            Message message;
+            while ((message = queue.poll()) != null) {
+                message.discard();
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true once the queue has been closed
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public int depth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the deepest the queue has been
+     */
+    public int highWaterMark() {
+        lock.lock();
+        try {
+            return highWaterMark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of messages the policy has discarded
+     */
+    public long droppedCount() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the most messages held at once
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the policy applied when the queue is full
+     */
+    public Policy policy() {
+        return policy;
+    }
+}
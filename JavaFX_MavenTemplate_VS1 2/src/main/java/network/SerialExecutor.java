@@ -0,0 +1,57 @@
+package network;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Runs tasks one at a time, in submission order, on a shared executor.
+ * Gives each connection ordered handling of its messages, and each table a mailbox for its
+ * players' actions, without a thread of its own. Each task sees everything earlier tasks
+ * wrote, even when they ran on other threads of the executor.
+ */
+public final class SerialExecutor implements Executor {
+    private static final Logger LOG = Log.getLogger(SerialExecutor.class);
+
+    private final Executor executor;
+    private final String name; // Names its owner in the log, such as "table 3"
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * @param executor the shared executor that runs the tasks
+     * @param name what the tasks belong to, for the log, such as "table 3"
+     */
+    public SerialExecutor(Executor executor, String name) {
+        this.executor = executor;
+        this.name = name;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.error("Task failed at " + name + ".", e);
+            }
+        }
+        scheduled.set(false);
+        // A task may have been added after the last poll but before the flag was cleared
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+}
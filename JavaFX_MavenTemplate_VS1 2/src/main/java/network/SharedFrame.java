@@ -0,0 +1,99 @@
+package network;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A frame, length prefix included, built once and written to any number of clients.
+ * The bytes live in a pooled buffer that is never changed after it is built. Each holder
+ * owns one reference: retain before handing the frame to another writer, and release once
+ * done with it. The last release returns the buffer to the pool.
+ */
+public final class SharedFrame {
+    // Fits any GameProtocol message; larger frames get a buffer of their own
+    private static final BufferPool POOL = new BufferPool(GameProtocol.MAX_MESSAGE_BYTES + 4, 1024, false);
+
+    private final ByteBuffer buffer; // Position 0, limit at the end of the frame
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private SharedFrame(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Builds a frame holding one reference, owned by the caller.
+     *
+     * @param payload the frame payload
+     * @return the frame
+     */
+    public static SharedFrame of(byte[] payload) {
+        int length = payload.length + 4;
+        ByteBuffer buffer = length <= POOL.bufferSize() ? POOL.acquire() : ByteBuffer.allocate(length);
+        buffer.putInt(payload.length).put(payload).flip();
+        return new SharedFrame(buffer);
+    }
+
+    /**
+     * Adds a reference for another holder.
+     *
+     * @return this frame
+     * @throws IllegalStateException if the frame has already been released
+     */
+    public SharedFrame retain() {
+        int count;
+        do {
+            count = references.get();
+            if (count <= 0) {
+                throw new IllegalStateException("Frame already released.");
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return this;
+    }
+
+    /**
+     * Drops one reference, returning the buffer to the pool after the last.
+     *
+     * @throws IllegalStateException if every reference has already been released
+     */
+    public void release() {
+        int count = references.decrementAndGet();
+        if (count == 0) {
+            POOL.release(buffer);
+        } else if (count < 0) {
+            throw new IllegalStateException("Frame released too often.");
+        }
+    }
+
+    /**
+     * @return a read-only view of the frame with its own position, for one channel write
+     */
+    public ByteBuffer view() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the whole frame to a stream without copying it.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer.array(), buffer.arrayOffset(), buffer.limit());
+    }
+
+    /**
+     * @return the frame's length in bytes, prefix included
+     */
+    public int length() {
+        return buffer.limit();
+    }
+
+    /**
+     * @return the number of holders still referencing the frame
+     */
+    public int references() {
+        return references.get();
+    }
+}
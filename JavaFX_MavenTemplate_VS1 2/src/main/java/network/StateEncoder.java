@@ -0,0 +1,96 @@
+package network;
+
+import model.PokerInfo;
+
+/**
+ * Encodes the table updates sent to one client.
+ * The first update is a full snapshot; each later one is a DELTA holding only the fields
+ * that changed since the update before it. Updates are numbered so the client can check
+ * that it applies each delta to the state the server diffed against.
+ * Not thread-safe: callers encode and send under the same lock, so updates reach the
+ * client in the order they were numbered.
+ * Clients at one table that hold the same state share the frames of each Broadcast.
+ */
+public class StateEncoder {
+    // System property that turns deltas off, sending a snapshot with every update
+    public static final String DELTA_PROPERTY = "poker.protocol.delta";
+
+    private final boolean deltas;
+    private PokerInfo last; // The state the client holds, or null before the first update
+    private boolean lastResult; // Whether last settled a hand
+    private int sequence;
+
+    /**
+     * Creates an encoder that sends deltas unless "poker.protocol.delta" is "false".
+     */
+    public StateEncoder() {
+        this(!"false".equalsIgnoreCase(System.getProperty(DELTA_PROPERTY)));
+    }
+
+    /**
+     * @param deltas whether to send deltas after the first snapshot
+     */
+    public StateEncoder(boolean deltas) {
+        this.deltas = deltas;
+    }
+
+    /**
+     * Encodes the next update.
+     *
+     * @param info the state to send
+     * @param result whether the update settles a hand
+     * @return a STATE, RESULT or DELTA payload
+     */
+    public byte[] encode(PokerInfo info, boolean result) {
+        int next = ++sequence;
+        byte[] payload;
+        if (deltas && last != null) {
+            payload = GameProtocol.encodeDelta(next, last, info, result);
+        } else if (result) {
+            payload = GameProtocol.encodeResult(next, info);
+        } else {
+            payload = GameProtocol.encodeState(next, info);
+        }
+        last = new PokerInfo(info); // The caller may keep changing info after this returns
+        lastResult = result;
+        return payload;
+    }
+
+    /**
+     * Encodes the next update from a broadcast, reusing the frame already built for any
+     * client that held the same state and sequence number.
+     *
+     * @param update the update to send
+     * @return the frame, with one reference owned by the caller
+     */
+    public SharedFrame encode(Broadcast update) {
+        int next = ++sequence;
+        SharedFrame frame = update.frameFor(deltas ? last : null, next);
+        last = update.state(); // Shared, never changed, so other clients' baselines match it
+        lastResult = update.isResult();
+        return frame;
+    }
+
+    /**
+     * Answers a client that asked to resync after missing an update: resends the state the
+     * client should hold as a snapshot with the next sequence number, so later deltas apply
+     * to what it holds again.
+     *
+     * @return the snapshot frame, with one reference owned by the caller, or null if nothing
+     *         has been sent yet
+     */
+    public SharedFrame resync() {
+        if (last == null) {
+            return null; // The first update is a snapshot anyway
+        }
+        int next = ++sequence;
+        return SharedFrame.of(lastResult ? GameProtocol.encodeResult(next, last) : GameProtocol.encodeState(next, last));
+    }
+
+    /**
+     * @return the sequence number of the last update encoded
+     */
+    public int getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,51 @@
+package server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Creates the threads that run blocking client handlers.
+ * Virtual threads are used when asked for and the runtime supports them (Java 21 or newer);
+ * they are looked up reflectively so the server builds for release 11 on any JDK and runs on
+ * older releases, where platform threads are used instead.
+ */
+public final class ClientThreads {
+    private static final Logger LOG = Log.getLogger(ClientThreads.class);
+
+    private ClientThreads() {
+    }
+
+    /**
+     * @param virtual whether to use virtual threads when available
+     * @return a factory for client handler threads
+     */
+    public static ThreadFactory create(boolean virtual) {
+        if (virtual) {
+            ThreadFactory factory = virtualThreadFactory();
+            if (factory != null) {
+                return factory;
+            }
+            LOG.warn("Virtual threads need Java 21 or newer; using platform threads.");
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> new Thread(runnable, "client-" + count.incrementAndGet());
+    }
+
+    // Thread.ofVirtual().name("client-", 1).factory(), or null before Java 21
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "client-", 1L);
+            Method factory = builderType.getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
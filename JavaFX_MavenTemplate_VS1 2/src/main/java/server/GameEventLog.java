@@ -0,0 +1,86 @@
+package server;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the most recent game events in a fixed ring of slots, so memory stays the same
+ * however long the server runs. Once the ring is full, each new event overwrites the oldest.
+ * Game threads append with a brief lock and never wait on a reader. A reader samples at its
+ * own pace, asking for everything since the position it last read; events it was too slow
+ * for are skipped rather than kept.
+ */
+public class GameEventLog implements ServerListener {
+    // System property holding the number of events kept; default 1000
+    public static final String CAPACITY_PROPERTY = "poker.server.eventLogSize";
+
+    private final String[] events;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long count; // Events appended so far, guarded by lock; the next goes in slot count % capacity
+
+    /**
+     * Creates a log keeping the number of events in "poker.server.eventLogSize".
+     */
+    public GameEventLog() {
+        this(Integer.getInteger(CAPACITY_PROPERTY, 1000));
+    }
+
+    /**
+     * @param capacity the number of events kept
+     */
+    public GameEventLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        events = new String[capacity];
+    }
+
+    @Override
+    public void onGameEvent(String message) {
+        lock.lock();
+        try {
+            events[(int) (count++ % events.length)] = message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the events appended since a position, oldest first. If more were appended than
+     * the log keeps, only the kept ones are copied.
+     *
+     * @param position the position returned by the previous call, or 0 at first
+     * @param into the list to add the events to
+     * @return the position to pass next time
+     */
+    public long readSince(long position, List<String> into) {
+        lock.lock();
+        try {
+            for (long next = Math.max(position, count - events.length); next < count; next++) {
+                into.add(events[(int) (next % events.length)]);
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events appended so far, including those overwritten
+     */
+    public long getCount() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events kept
+     */
+    public int capacity() {
+        return events.length;
+    }
+}
@@ -0,0 +1,94 @@
+package server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import controller.ClientHandler;
+
+/**
+ * Pairs arriving players by stake and seats them at tables.
+ * A player with no one to play sits alone at a new table, and that table waits in a
+ * lock-free queue for its stake. The next arrival at the same stake takes the table from
+ * the queue and fills it. Nobody blocks while waiting: when the second seat is filled, the
+ * table tells both players through ClientHandler.tableReady, run in the table's mailbox.
+ * A table emptied while it waits stays queued until an arrival polls it and drops it, so
+ * leaving never searches a queue.
+ */
+public class Matchmaker {
+    private final TableManager tables;
+    private final ConcurrentHashMap<Integer, Queue<Table>> waiting = new ConcurrentHashMap<>(); // By stake
+
+    /**
+     * @param tables the manager that opens and closes tables
+     */
+    Matchmaker(TableManager tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Seats a player opposite someone waiting at the same stake, or alone at a new table
+     * to wait for the next arrival. Never blocks.
+     *
+     * @param handler the arriving player's handler
+     * @param stake the stake level the player plays at
+     * @return the player's table, or null if no table is free and no more may be opened
+     */
+    public Table seat(ClientHandler handler, int stake) {
+        Queue<Table> queue = queueFor(stake);
+        while (true) {
+            Table table = queue.poll(); // Taken out while we try it, so no one else does
+            if (table == null) {
+                table = tables.openTable(stake);
+                if (table == null) {
+                    return null;
+                }
+            }
+            if (table.seat(handler) > 0) {
+                if (!table.isGameReady()) {
+                    queue.add(table); // Wait for an opponent
+                }
+                return table;
+            }
+            // Closed by its last player leaving; dropped here rather than on leave
+        }
+    }
+
+    /**
+     * Frees a player's seat. An emptied table is closed; a player left alone waits for the
+     * next arrival at the table's stake.
+     *
+     * @param handler the leaving player's handler
+     * @return true if the player was seated
+     */
+    public boolean leave(ClientHandler handler) {
+        Table table = handler.getTable();
+        if (table == null) {
+            return false;
+        }
+        int remaining = table.leave(handler);
+        if (remaining < 0) {
+            return false;
+        }
+        if (remaining == 0) {
+            tables.closeTable(table); // Left in its queue for the next arrival to drop
+        } else {
+            queueFor(table.getStake()).add(table);
+        }
+        return true;
+    }
+
+    /**
+     * @param stake a stake level
+     * @return the number of tables waiting for a player at that stake, counting closed
+     *         tables not yet dropped
+     */
+    public int getWaitingTables(int stake) {
+        Queue<Table> queue = waiting.get(stake);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private Queue<Table> queueFor(int stake) {
+        return waiting.computeIfAbsent(stake, key -> new ConcurrentLinkedQueue<>());
+    }
+}
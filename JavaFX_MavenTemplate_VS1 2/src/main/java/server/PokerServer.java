@@ -3,95 +3,124 @@ package server;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import controller.ClientHandler;
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import model.PokerInfo;
+import logging.Log;
+import logging.Logger;
+import model.DeckPool;
+import model.Paytable;
+import network.Connection;
+import network.ConnectionListener;
+import network.NioServer;
 
+/**
+ * The game server. It has no user interface of its own: ServerMain runs it headless, and the
+ * JavaFX admin UI attaches to it as a ServerListener.
+ */
 public class PokerServer {
-    private ServerSocket serverSocket;
-    private final List<ClientHandler> clients = new CopyOnWriteArrayList<>();
-    private boolean isRunning = false;
-    private int currentTurn = 1; // Start with Player 1
-    private int readyPlayers = 0; // Track how many players have acted
-    private final ObservableList<String> serverLog = FXCollections.observableArrayList();
-    private int currentTurnPlayer = 1; // Always starts with Player 1
+    private static final Logger LOG = Log.getLogger(PokerServer.class);
 
-    
+    // System property that selects the transport: "blocking" (default), "virtual" or "nio".
+    // "virtual" is the blocking transport with each client on a virtual thread (Java 21+).
+    public static final String TRANSPORT_PROPERTY = "poker.server.transport";
+    // System properties that size the NIO transport's event loops and game threads
+    public static final String EVENT_LOOPS_PROPERTY = "poker.server.eventLoops";
+    public static final String GAME_THREADS_PROPERTY = "poker.server.gameThreads";
 
-    public synchronized boolean isGameReady() {
-        return clients.size() == 2;
-    }
+    private NioServer nioServer; // Set while the NIO transport is running
+    private ExecutorService gameExecutor; // Runs NIO client handlers off the event loops
+    private ServerSocket serverSocket;
+    private final TableManager tables = new TableManager(this); // Every table at this server
+    private volatile boolean isRunning = false;
+    private final AtomicBoolean stopped = new AtomicBoolean(); // A server is stopped once and not restarted
+    private final List<ServerListener> listeners = new CopyOnWriteArrayList<>(); // Read on every event
+    private final Paytable paytable = Paytable.active(); // Settles every bet at this server
 
-    public synchronized void incrementReadyPlayers() {
-        readyPlayers++;
-    }
 
-    public synchronized void resetReadyPlayers() {
-        readyPlayers = 0;
+    /**
+     * Returns the paytable used to settle bets, chosen by the "poker.paytable" system property.
+     */
+    public Paytable getPaytable() {
+        return paytable;
     }
 
-    public synchronized int getReadyPlayers() {
-        return readyPlayers;
-    }
-    
-    public synchronized List<ClientHandler> getConnectedClients() {
-        return new ArrayList<>(clients); // Return a copy of the client list
+    /**
+     * Returns the manager that seats players at this server's tables.
+     */
+    public TableManager getTableManager() {
+        return tables;
     }
-    
-    private boolean isPlayer1Turn = true; // Track turn using a boolean
 
     /**
-     * Returns whether it is Player 1's turn.
+     * Returns every connected player, across all tables.
      */
-    public synchronized boolean isPlayer1Turn() {
-        return isPlayer1Turn;
+    public List<ClientHandler> getConnectedClients() {
+        return tables.getPlayers();
     }
-    
-    
 
-    public synchronized void broadcastToPlayers(PokerInfo info) {
-        if (!isGameReady()) {
-            logGameEvent("Waiting for another player to join...");
-            return;
+    /**
+     * Returns the deepest outbound queue across connected players. A queue that stays deep
+     * belongs to a client reading more slowly than its table plays.
+     */
+    public int getMaxOutboundDepth() {
+        int max = 0;
+        for (ClientHandler client : tables.getPlayers()) {
+            max = Math.max(max, client.getOutboundQueue().depth());
         }
+        return max;
+    }
 
-        for (ClientHandler client : clients) {
-            client.sendToClient(info);
+    /**
+     * Returns the number of messages waiting to be written, across connected players.
+     */
+    public int getTotalOutboundDepth() {
+        int total = 0;
+        for (ClientHandler client : tables.getPlayers()) {
+            total += client.getOutboundQueue().depth();
         }
+        return total;
     }
 
+    /**
+     * Starts the server with the transport chosen by the "poker.server.transport" property.
+     * The blocking and virtual-thread transports run their accept loop on the calling thread
+     * until the server stops; the NIO transport returns once it is listening.
+     * Each arriving client is seated at a table with a free seat; a new table is opened when
+     * every table is full, up to the "poker.server.maxTables" limit.
+     *
+     * @param port the port to listen on
+     */
     public void startServer(int port) {
+        String transport = System.getProperty(TRANSPORT_PROPERTY, "blocking");
+        if ("nio".equalsIgnoreCase(transport)) {
+            startNioServer(port);
+            return;
+        }
+        ThreadFactory clientThreads = ClientThreads.create("virtual".equalsIgnoreCase(transport));
+
         try {
             serverSocket = new ServerSocket(port);
             isRunning = true;
             logGameEvent("Server started on port: " + port);
+            prepareGame();
 
             while (isRunning) {
                 Socket clientSocket = serverSocket.accept();
 
-                // Prevent extra clients from joining
-                if (clients.size() >= 2) {
-                    logGameEvent("New connection attempt rejected: Max players reached.");
+                ClientHandler clientHandler = new ClientHandler(clientSocket, this);
+                Table table = seat(clientHandler, clientSocket.getInetAddress());
+                if (table == null) {
                     clientSocket.close();
                     continue;
                 }
-
-                logGameEvent("New client connected: " + clientSocket.getInetAddress());
-
-                ClientHandler clientHandler = new ClientHandler(clientSocket, this, clients.size() + 1);
-                clients.add(clientHandler);
-                new Thread(clientHandler).start();
-
-                if (isGameReady()) {
-                    logGameEvent("Both players connected. Starting game...");
-                    currentTurn = 1;
-                }
+                clientThreads.newThread(clientHandler).start();
+                clientThreads.newThread(clientHandler::writeOutbound).start(); // Its own writer
             }
         } catch (IOException e) {
             logGameEvent("Error starting server: " + e.getMessage());
@@ -100,100 +129,186 @@ public class PokerServer {
         }
     }
 
+    /**
+     * Starts the non-blocking NIO transport: a few event-loop threads serve every socket,
+     * and each client's messages are handled in order on a small pool of game threads.
+     * Both transports carry the same length-prefixed GameProtocol messages.
+     *
+     * @param port the port to listen on
+     */
+    public void startNioServer(int port) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int eventLoops = Integer.getInteger(EVENT_LOOPS_PROPERTY, Math.max(1, Math.min(4, cores / 2)));
+        int gameThreads = Integer.getInteger(GAME_THREADS_PROPERTY, Math.max(2, cores));
+
+        gameExecutor = Executors.newFixedThreadPool(gameThreads, runnable -> {
+            Thread thread = new Thread(runnable, "game-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            nioServer = new NioServer(eventLoops, new NioClients(), gameExecutor);
+            nioServer.bind(port);
+            isRunning = true;
+            logGameEvent("NIO server started on port: " + nioServer.getPort());
+            prepareGame();
+        } catch (IOException e) {
+            logGameEvent("Error starting server: " + e.getMessage());
+            stopServer();
+        }
+    }
+
+    // Warms up shared game data so the first round does not pay for it
+    private void prepareGame() {
+        // Start shuffling decks ahead so the first deal does not wait for a shuffle
+        DeckPool.shared();
+    }
+
+    // Seats a new client, or returns null if every table is taken
+    private Table seat(ClientHandler clientHandler, Object address) {
+        Table table = tables.seat(clientHandler);
+        if (table == null) {
+            logGameEvent("New connection attempt rejected: All tables are full.");
+            return null;
+        }
+        table.logGameEvent("New client connected: " + address);
+        if (table.isGameReady()) {
+            table.logGameEvent("Both players connected. Starting game...");
+        }
+        return table;
+    }
+
+    /**
+     * Stops the server and disconnects every client. Both a shutdown and the accept loop
+     * it breaks call this; only the first call does anything.
+     */
     public void stopServer() {
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
         isRunning = false;
         try {
+            if (nioServer != null) {
+                nioServer.close();
+                nioServer = null;
+            }
+            if (gameExecutor != null) {
+                gameExecutor.shutdown();
+                gameExecutor = null;
+            }
             if (serverSocket != null) {
                 serverSocket.close();
             }
-            for (ClientHandler client : clients) {
+            for (ClientHandler client : tables.getPlayers()) {
                 client.closeConnection();
             }
-            clients.clear();
             logGameEvent("Server stopped.");
         } catch (IOException e) {
             logGameEvent("Error stopping server: " + e.getMessage());
         }
     }
 
-    public synchronized void removeClient(ClientHandler clientHandler) {
-        clients.remove(clientHandler);
-        logGameEvent("Client disconnected. Active clients: " + clients.size());
+    public void removeClient(ClientHandler clientHandler) {
+        Table table = clientHandler.getTable();
+        tables.leave(clientHandler);
+        logGameEvent("Client disconnected. Active clients: " + tables.getPlayerCount());
 
-        if (clients.size() < 2) {
-            logGameEvent("Game paused. Waiting for another player...");
-            currentTurn = 0;
+        if (table != null && !table.isClosed()) {
+            table.logGameEvent("Game paused. Waiting for another player...");
         }
     }
-    
+
     /**
-     * Gets the opponent's ClientHandler.
-     * @param currentPlayer The current player's ClientHandler.
-     * @return The opponent's ClientHandler, or null if no opponent exists.
+     * Records a game event in the server log output and passes it to every listener.
+     * Does not lock the server or wait on I/O, so it is safe to call from any game thread.
      */
-    public synchronized ClientHandler getOpponentHandler(ClientHandler currentPlayer) {
-        for (ClientHandler client : clients) {
-            if (client != currentPlayer) {
-                return client;
-            }
+    public void logGameEvent(String message) {
+        LOG.info(message);
+        for (ServerListener listener : listeners) {
+            listener.onGameEvent(message);
         }
-        return null;
     }
 
-
     /**
-     * Switches turn between Player 1 and Player 2.
+     * Attaches an observer, such as the admin UI. Attach before starting the server to
+     * see the startup events.
+     *
+     * @param listener the observer to notify of server events
      */
-    public synchronized void switchTurn() {
-        if (clients.size() == 2) {
-            currentTurnPlayer = (currentTurnPlayer == 1) ? 2 : 1;
-            logGameEvent("Turn switched. Now Player " + currentTurnPlayer + "'s turn.");
-        }
-    }
-
-    
-    public synchronized int getCurrentTurnPlayer() {
-        return currentTurnPlayer;
-    }
-
-    public synchronized int getCurrentTurn() {
-        return currentTurn;
+    public void addListener(ServerListener listener) {
+        listeners.add(listener);
     }
 
-    public synchronized void logGameEvent(String message) {
-        Platform.runLater(() -> serverLog.add(message));
-        System.out.println("[SERVER] " + message);
+    /**
+     * @param listener an observer attached with addListener
+     */
+    public void removeListener(ServerListener listener) {
+        listeners.remove(listener);
     }
 
-    public ObservableList<String> getServerLog() {
-        return serverLog;
+    /**
+     * Returns whether the server is accepting clients.
+     */
+    public boolean isRunning() {
+        return isRunning;
     }
 
-    public synchronized void addClient(ClientHandler clientHandler) {
-        clients.add(clientHandler);
-        System.out.println("New client connected. Active clients: " + clients.size());
+    /**
+     * Seats a client at the first table with a free seat.
+     *
+     * @return false if every table is taken
+     */
+    public boolean addClient(ClientHandler clientHandler) {
+        boolean seated = tables.seat(clientHandler) != null;
+        LOG.info("New client connected. Active clients: " + tables.getPlayerCount());
+        return seated;
     }
     
-    public synchronized boolean isGameThreadRunning(Thread gameThread) {
+    public boolean isGameThreadRunning(Thread gameThread) {
         return gameThread != null && gameThread.isAlive();
     }
 
-    /**
-     * Returns the opponent's hand for the given player number.
-     *
-     * @param requestingPlayer The player requesting the opponent's hand.
-     * @return The opponent's PokerInfo containing their hand, or null if no opponent exists.
-     */
-    public synchronized PokerInfo getOpponentHand(int requestingPlayer) {
-        if (!isGameReady()) return null;
-
-        for (ClientHandler client : clients) {
-            if (client.getPlayerNumber() != requestingPlayer) {
-                PokerInfo opponentInfo = new PokerInfo();
-                opponentInfo.setPlayerHand(client.getPlayer().getHand());
-                return opponentInfo;
+    // Connects NIO connections to client handlers; runs on the game threads
+    private final class NioClients implements ConnectionListener {
+        @Override
+        public void onOpen(Connection connection) {
+            ClientHandler handler = new ClientHandler(connection, PokerServer.this);
+            if (seat(handler, connection.getRemoteAddress()) == null) {
+                connection.close();
+                return;
+            }
+            connection.attach(handler);
+            handler.start();
+        }
+
+        @Override
+        public void onFrame(Connection connection, byte[] payload) {
+            ClientHandler handler = (ClientHandler) connection.attachment();
+            if (handler == null) {
+                return;
+            }
+            try {
+                handler.handleFrame(payload);
+            } catch (IOException e) {
+                logGameEvent("Dropping Player " + handler.getPlayerNumber() + ": bad message (" + e.getMessage() + ")");
+                connection.close();
+            }
+        }
+
+        @Override
+        public void onDrained(Connection connection) {
+            ClientHandler handler = (ClientHandler) connection.attachment();
+            if (handler != null) {
+                handler.drainOutbound();
+            }
+        }
+
+        @Override
+        public void onClose(Connection connection) {
+            ClientHandler handler = (ClientHandler) connection.attachment();
+            if (handler != null) {
+                handler.connectionClosed();
             }
         }
-        return null;
     }
 }
@@ -0,0 +1,17 @@
+package server;
+
+/**
+ * Observes a running PokerServer, for instance an admin UI showing the game log.
+ * The server runs without any listener; listeners are attached with PokerServer.addListener.
+ * Called on whichever game, accept or event-loop thread raised the event, so an
+ * implementation must return quickly and hand off to its own thread if it does more.
+ */
+public interface ServerListener {
+
+    /**
+     * Called for every event written to the game log.
+     *
+     * @param message the event, as logged
+     */
+    void onGameEvent(String message);
+}
@@ -0,0 +1,300 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import controller.ClientHandler;
+import model.Dealer;
+import model.Hand;
+import model.PokerInfo;
+import network.Broadcast;
+import network.SerialExecutor;
+
+/**
+ * One two-seat game table: its own dealer, players and turn state.
+ * Each table is an actor. Its players' actions go into the table's mailbox and run one at a
+ * time, in order, on a thread borrowed from a scheduler shared by every table, so the game
+ * state needs no lock and tables run in parallel on all cores.
+ * Only seating is locked: players arrive and leave on connection threads, outside the
+ * mailbox. Each change publishes a fresh copy of the seats, which everything else reads
+ * without the lock, so no action in the mailbox waits on seating or sends while holding it.
+ */
+public class Table {
+    public static final int SEATS = 2;
+
+    private final int id;
+    private final int stake; // The stake level its players were matched at
+    private final PokerServer server; // For logging and the paytable; null in tests
+    private final Dealer dealer = new Dealer();
+    private final ClientHandler[] seats = new ClientHandler[SEATS];
+    private final SerialExecutor mailbox; // Runs this table's actions one at a time
+
+    // Seating, guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private int seated;
+    private boolean closed; // Set once the last player leaves; a closed table takes no one
+    private volatile ClientHandler[] occupants = new ClientHandler[SEATS]; // Copy of seats, never changed once published
+
+    // Game state, touched only by actions in the mailbox; volatile for readers outside it
+    private volatile int readyPlayers = 0; // Track how many players have acted
+    private volatile int currentTurnPlayer = 1; // Always starts with Player 1
+
+    /**
+     * @param id the table number, unique within a server
+     * @param server the server hosting the table, or null
+     * @param scheduler the executor shared by every table's mailbox
+     * @param stake the stake level its players are matched at
+     */
+    public Table(int id, PokerServer server, Executor scheduler, int stake) {
+        this.id = id;
+        this.server = server;
+        this.mailbox = new SerialExecutor(scheduler, "table " + id);
+        this.stake = stake;
+    }
+
+    /**
+     * @param id the table number, unique within a server
+     * @param server the server hosting the table, or null
+     * @param scheduler the executor shared by every table's mailbox
+     */
+    public Table(int id, PokerServer server, Executor scheduler) {
+        this(id, server, scheduler, TableManager.DEFAULT_STAKE);
+    }
+
+    /**
+     * @return the stake level its players were matched at
+     */
+    public int getStake() {
+        return stake;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Queues a game action. Actions at one table never overlap and run in the order they
+     * were submitted; the game state getters and setters below may only be used inside them.
+     *
+     * @param action the action to run
+     */
+    public void submit(Runnable action) {
+        mailbox.execute(action);
+    }
+
+    /**
+     * Returns the dealer who deals every hand at this table.
+     */
+    public Dealer getDealer() {
+        return dealer;
+    }
+
+    /**
+     * Seats a player in the first free seat. Once both seats are filled, a fresh round is
+     * set up and each player's tableReady runs in the mailbox.
+     *
+     * @param handler the arriving player's handler
+     * @return the seat number (1 or 2), which is also the player's number, or 0 if the table
+     *         is full or closed
+     */
+    int seat(ClientHandler handler) {
+        int seat = 0;
+        ClientHandler[] players;
+        lock.lock();
+        try {
+            if (closed || seated == SEATS) {
+                return 0;
+            }
+            while (seats[seat] != null) {
+                seat++;
+            }
+            seats[seat] = handler;
+            seated++;
+            occupants = players = seats.clone();
+            handler.joinTable(this, seat + 1);
+        } finally {
+            lock.unlock();
+        }
+        if (isFull(players)) {
+            submit(() -> {
+                startRound(players);
+                for (ClientHandler player : players) {
+                    player.tableReady();
+                }
+            });
+        }
+        return seat + 1;
+    }
+
+    /**
+     * Frees a player's seat, closing the table once it is empty.
+     *
+     * @param handler the leaving player's handler
+     * @return the number of players left at the table, or -1 if the player was not seated here
+     */
+    int leave(ClientHandler handler) {
+        lock.lock();
+        try {
+            for (int i = 0; i < SEATS; i++) {
+                if (seats[i] == handler) {
+                    seats[i] = null;
+                    seated--;
+                    occupants = seats.clone();
+                    closed = seated == 0;
+                    return seated;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Clears whatever a round cut short by a departure left behind; runs in the mailbox
+    private void startRound(ClientHandler[] players) {
+        readyPlayers = 0;
+        currentTurnPlayer = 1;
+        dealer.endRound();
+        dealer.setDealersHand(Hand.EMPTY);
+        for (ClientHandler player : players) {
+            player.getPlayer().resetForNewGame();
+        }
+    }
+
+    public boolean isGameReady() {
+        return isFull(occupants);
+    }
+
+    private static boolean isFull(ClientHandler[] players) {
+        for (ClientHandler player : players) {
+            if (player == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true once the last player has left
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the players seated at this table
+     */
+    public List<ClientHandler> getPlayers() {
+        List<ClientHandler> players = new ArrayList<>(SEATS);
+        for (ClientHandler handler : occupants) {
+            if (handler != null) {
+                players.add(handler);
+            }
+        }
+        return players;
+    }
+
+    public void incrementReadyPlayers() {
+        readyPlayers++;
+    }
+
+    public void resetReadyPlayers() {
+        readyPlayers = 0;
+    }
+
+    public int getReadyPlayers() {
+        return readyPlayers;
+    }
+
+    /**
+     * Switches turn between Player 1 and Player 2.
+     */
+    public void switchTurn() {
+        if (isGameReady()) {
+            currentTurnPlayer = (currentTurnPlayer == 1) ? 2 : 1;
+            logGameEvent("Turn switched. Now Player " + currentTurnPlayer + "'s turn.");
+        }
+    }
+
+    public int getCurrentTurnPlayer() {
+        return currentTurnPlayer;
+    }
+
+    /**
+     * Sends a game update to both players, once both seats are filled.
+     */
+    public void broadcastToPlayers(PokerInfo info) {
+        broadcast(info, false);
+    }
+
+    /**
+     * Sends the outcome of a settled hand to both players, once both seats are filled.
+     */
+    public void broadcastResult(PokerInfo info) {
+        broadcast(info, true);
+    }
+
+    private void broadcast(PokerInfo info, boolean result) {
+        ClientHandler[] players = occupants;
+        if (!isFull(players)) {
+            logGameEvent("Waiting for another player to join...");
+            return;
+        }
+
+        // Encoded once for the whole table, not once per player
+        Broadcast update = new Broadcast(info, result, SEATS);
+        for (ClientHandler client : players) {
+            client.sendBroadcast(update);
+        }
+    }
+
+    /**
+     * Gets the opponent's ClientHandler.
+     * @param currentPlayer The current player's ClientHandler.
+     * @return The opponent's ClientHandler, or null if no opponent exists.
+     */
+    public ClientHandler getOpponentHandler(ClientHandler currentPlayer) {
+        for (ClientHandler client : occupants) {
+            if (client != null && client != currentPlayer) {
+                return client;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the opponent's hand for the given player number.
+     *
+     * @param requestingPlayer The player requesting the opponent's hand.
+     * @return The opponent's PokerInfo containing their hand, or null if no opponent exists.
+     */
+    public PokerInfo getOpponentHand(int requestingPlayer) {
+        ClientHandler[] players = occupants;
+        if (!isFull(players)) return null;
+
+        for (ClientHandler client : players) {
+            if (client.getPlayerNumber() != requestingPlayer) {
+                PokerInfo opponentInfo = new PokerInfo();
+                opponentInfo.setPlayerHand(client.getPlayer().getHand());
+                return opponentInfo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records a game event for this table in the server log.
+     */
+    public void logGameEvent(String message) {
+        if (server != null) {
+            server.logGameEvent("Table " + id + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import controller.ClientHandler;
+
+/**
+ * Places arriving players at tables and tracks every table a server hosts.
+ * Players are paired by its Matchmaker, which keeps tables with a free seat in lock-free
+ * queues by stake. The manager holds no lock of its own,
+ * and each table runs its actions on a scheduler shared by all tables, so tables run in
+ * parallel across every core.
+ */
+public class TableManager {
+    // System property that caps the number of tables a server hosts
+    public static final String MAX_TABLES_PROPERTY = "poker.server.maxTables";
+    // System property that sizes the scheduler running every table's actions
+    public static final String TABLE_THREADS_PROPERTY = "poker.server.tableThreads";
+    // Stake of players who name none; the protocol has no stake before a player is seated
+    public static final int DEFAULT_STAKE = 0;
+
+    private final PokerServer server;
+    private final int maxTables;
+    private final Executor scheduler;
+    private final ConcurrentHashMap<Integer, Table> tables = new ConcurrentHashMap<>();
+    private final Matchmaker matchmaker = new Matchmaker(this);
+    private final AtomicInteger tableCount = new AtomicInteger();
+    private final AtomicInteger playerCount = new AtomicInteger();
+    private final AtomicInteger nextTableId = new AtomicInteger();
+
+    /**
+     * @param server the server hosting the tables, or null
+     * @param maxTables the most tables open at once
+     * @param scheduler the executor that runs every table's actions
+     */
+    public TableManager(PokerServer server, int maxTables, Executor scheduler) {
+        if (maxTables < 1) {
+            throw new IllegalArgumentException("At least one table is required.");
+        }
+        this.server = server;
+        this.maxTables = maxTables;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a manager whose tables run on the shared table scheduler.
+     *
+     * @param server the server hosting the tables, or null
+     * @param maxTables the most tables open at once
+     */
+    public TableManager(PokerServer server, int maxTables) {
+        this(server, maxTables, SharedScheduler.POOL);
+    }
+
+    /**
+     * Creates a manager capped by the "poker.server.maxTables" property (default 500).
+     */
+    public TableManager(PokerServer server) {
+        this(server, Integer.getInteger(MAX_TABLES_PROPERTY, 500));
+    }
+
+    /**
+     * Seats a player at the default stake. Every connection is seated this way, since
+     * the protocol carries no stake; other stakes are reachable only through the API.
+     *
+     * @param handler the arriving player's handler
+     * @return the player's table, or null if every table is full and no more may be opened
+     * @see Matchmaker#seat(ClientHandler, int)
+     */
+    public Table seat(ClientHandler handler) {
+        return seat(handler, DEFAULT_STAKE);
+    }
+
+    /**
+     * Seats a player opposite someone waiting at the same stake, or alone at a new table.
+     * The handler learns its table and player number before this returns, and its
+     * tableReady runs once the table is full.
+     *
+     * @param handler the arriving player's handler
+     * @param stake the stake level the player plays at
+     * @return the player's table, or null if every table is full and no more may be opened
+     */
+    public Table seat(ClientHandler handler, int stake) {
+        Table table = matchmaker.seat(handler, stake);
+        if (table != null) {
+            playerCount.incrementAndGet();
+        }
+        return table;
+    }
+
+    /**
+     * Frees a player's seat. An emptied table is closed; a player left alone waits for the
+     * next arrival.
+     *
+     * @param handler the leaving player's handler
+     */
+    public void leave(ClientHandler handler) {
+        if (matchmaker.leave(handler)) {
+            playerCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the matchmaker pairing this server's players
+     */
+    public Matchmaker getMatchmaker() {
+        return matchmaker;
+    }
+
+    /**
+     * @return the open tables
+     */
+    public Collection<Table> getTables() {
+        return tables.values();
+    }
+
+    /**
+     * @return the number of open tables
+     */
+    public int getTableCount() {
+        return tableCount.get();
+    }
+
+    /**
+     * @return the number of seated players across all tables
+     */
+    public int getPlayerCount() {
+        return playerCount.get();
+    }
+
+    /**
+     * @return every seated player across all tables
+     */
+    public List<ClientHandler> getPlayers() {
+        List<ClientHandler> players = new ArrayList<>();
+        for (Table table : tables.values()) {
+            players.addAll(table.getPlayers());
+        }
+        return players;
+    }
+
+    // Daemon threads, one per core by default ("poker.server.tableThreads"), created on first use.
+    // Table actions never block on I/O, so a thread per core keeps every core busy.
+    private static final class SharedScheduler {
+        static final ExecutorService POOL = Executors.newFixedThreadPool(
+                Integer.getInteger(TABLE_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "table-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Opens a table for the matchmaker, or returns null at the table limit
+    Table openTable(int stake) {
+        int count;
+        do {
+            count = tableCount.get();
+            if (count >= maxTables) {
+                return null;
+            }
+        } while (!tableCount.compareAndSet(count, count + 1));
+
+        Table table = new Table(nextTableId.incrementAndGet(), server, scheduler, stake);
+        tables.put(table.getId(), table);
+        return table;
+    }
+
+    // Forgets a table its last player has left
+    void closeTable(Table table) {
+        if (tables.remove(table.getId()) != null) {
+            tableCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Deck;
+import model.PackedHand;
+import model.Paytable;
+import model.ThreeCardLogic;
+
+/**
+ * Headless Monte Carlo simulator that plays a strategy against the dealer for a given
+ * number of hands, outside of the JavaFX server.
+ * Every worker thread owns its own random stream, split from one root SplittableRandom,
+ * and its own Deck, so workers share nothing until their results are merged
+ * and throughput grows linearly with cores. A run with a fixed seed and thread count is
+ * reproducible.
+ *
+ * Bets are settled with a Paytable, as ClientHandler does: a played hand settles the Ante
+ * and Play bets by the showdown result and earns any Ante bonus, and a folded hand loses the
+ * Ante. The Pair Plus bet is settled on the player's hand either way.
+ */
+public class MonteCarloSimulator {
+
+    private final PlayStrategy strategy; // Decides Play or Fold for each hand
+    private final Paytable paytable; // Settles every bet
+    private final int threads; // Number of worker threads
+    private final long seed; // Seed of the root random stream
+
+    /**
+     * Creates a simulator that settles bets with the active paytable.
+     *
+     * @param strategy the strategy the simulated player follows
+     * @param threads the number of worker threads
+     * @param seed the seed of the root random stream
+     */
+    public MonteCarloSimulator(PlayStrategy strategy, int threads, long seed) {
+        this(strategy, Paytable.active(), threads, seed);
+    }
+
+    /**
+     * @param strategy the strategy the simulated player follows
+     * @param paytable the paytable that settles every bet
+     * @param threads the number of worker threads
+     * @param seed the seed of the root random stream
+     */
+    public MonteCarloSimulator(PlayStrategy strategy, Paytable paytable, int threads, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1.");
+        }
+        this.strategy = strategy;
+        this.paytable = paytable;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Simulates the given number of hands.
+     *
+     * @param hands the number of hands to play
+     * @param anteBet the Ante bet of every hand; the Play bet matches it
+     * @param pairPlusBet the Pair Plus bet of every hand, or 0 for none
+     * @return the merged results of all workers
+     */
+    public SimulationResult run(long hands, int anteBet, int pairPlusBet) {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            SplittableRandom root = new SplittableRandom(seed);
+            List<Future<SimulationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long share = hands / threads + (i < hands % threads ? 1 : 0);
+                SplittableRandom random = root.split();
+                futures.add(workers.submit(() -> simulate(share, anteBet, pairPlusBet, random)));
+            }
+
+            SimulationResult total = new SimulationResult();
+            for (Future<SimulationResult> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed.", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // Plays hands on one worker thread with its own deck and random stream
+    private SimulationResult simulate(long hands, int anteBet, int pairPlusBet, SplittableRandom random) {
+        SimulationResult result = new SimulationResult();
+        Deck deck = new Deck(random);
+
+        for (long hand = 0; hand < hands; hand++) {
+            // Only the six cards about to be dealt need to be random
+            deck.shuffleTop(6);
+
+            int player = PackedHand.of(deck.dealCode(), deck.dealCode(), deck.dealCode());
+            int dealer = PackedHand.of(deck.dealCode(), deck.dealCode(), deck.dealCode());
+            int handValue = ThreeCardLogic.evalHand(player);
+
+            int net;
+            int outcome;
+            if (strategy.shouldPlay(player)) {
+                outcome = ThreeCardLogic.compareHands(dealer, player);
+                net = paytable.anteAndPlayWinnings(outcome, anteBet, anteBet) + paytable.anteBonus(handValue, anteBet);
+            } else {
+                outcome = -1;
+                net = -anteBet;
+            }
+
+            if (pairPlusBet > 0) {
+                net += paytable.pairPlusNet(handValue, pairPlusBet);
+            }
+
+            result.record(outcome, handValue, net);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the results.
+     *
+     * @param args [hands] [threads] [strategy: always|q64|optimal] [seed] [paytable]
+     */
+    public static void main(String[] args) {
+        long hands = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        PlayStrategy strategy = PlayStrategy.named(args.length > 2 ? args[2] : "q64");
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        Paytable paytable = args.length > 4 ? Paytable.load(args[4]) : Paytable.active();
+
+        long start = System.nanoTime();
+        SimulationResult result = new MonteCarloSimulator(strategy, paytable, threads, seed).run(hands, 1, 1);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        System.out.println(result);
+        System.out.println("Simulated " + hands + " hands on " + threads + " threads in " + elapsedMillis + " ms ("
+                + (hands * 1000 / elapsedMillis) + " hands/s)");
+    }
+}
@@ -0,0 +1,74 @@
+package simulation;
+
+import model.CardCodec;
+import model.PackedHand;
+import model.ThreeCardLogic;
+
+/**
+ * Decides whether a player makes the Play bet or folds after seeing their hand.
+ * Strategies receive the hand as a packed int so that deciding never allocates.
+ */
+public interface PlayStrategy {
+
+    /**
+     * @param packedHand the player's three cards, packed with PackedHand
+     * @return true to make the Play bet, false to fold
+     */
+    boolean shouldPlay(int packedHand);
+
+    /**
+     * A strategy that plays every hand.
+     */
+    PlayStrategy ALWAYS_PLAY = packedHand -> true;
+
+    /**
+     * The classic "Queen-6-4" rule: play any pair or better, and any high-card hand of
+     * at least Queen-6-4; fold everything else.
+     */
+    PlayStrategy QUEEN_SIX_FOUR = packedHand -> {
+        if (ThreeCardLogic.evalHand(packedHand) != 0) {
+            return true;
+        }
+
+        int a = CardCodec.value(PackedHand.card(packedHand, 0));
+        int b = CardCodec.value(PackedHand.card(packedHand, 1));
+        int c = CardCodec.value(PackedHand.card(packedHand, 2));
+        int high = Math.max(a, Math.max(b, c));
+        int low = Math.min(a, Math.min(b, c));
+        int middle = a + b + c - high - low;
+
+        if (high != ThreeCardLogic.HIGH_CARD_QUEEN) {
+            return high > ThreeCardLogic.HIGH_CARD_QUEEN;
+        }
+        if (middle != 6) {
+            return middle > 6;
+        }
+        return low >= 4;
+    };
+
+    /**
+     * Plays exactly the hands whose Play expected value beats folding, from the
+     * ThreeCardLogic decision table.
+     */
+    PlayStrategy OPTIMAL = ThreeCardLogic::shouldPlay;
+
+    /**
+     * Looks up a built-in strategy by name.
+     *
+     * @param name "always", "q64" or "optimal"
+     * @return the matching strategy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    static PlayStrategy named(String name) {
+        switch (name.toLowerCase()) {
+            case "always":
+                return ALWAYS_PLAY;
+            case "q64":
+                return QUEEN_SIX_FOUR;
+            case "optimal":
+                return OPTIMAL;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package simulation;
+
+import model.ThreeCardLogic;
+
+/**
+ * Aggregated outcome of a Monte Carlo run.
+ * Each worker thread fills its own instance without locking, and the simulator merges
+ * them once every worker has finished.
+ */
+public class SimulationResult {
+
+    // z-score for a two-sided 95% confidence interval
+    private static final double Z_95 = 1.959963984540054;
+
+    private long hands; // Hands simulated
+    private long wins; // Hands where the player played and beat the dealer
+    private long ties; // Hands where the player played and tied the dealer
+    private long losses; // Hands where the player played and lost to the dealer
+    private long folds; // Hands the player folded
+    private final long[] pairPlusHits = new long[6]; // Player hands dealt, by hand value
+    private long netTotal; // Sum of the net result of every hand, in betting units
+    private long netSquaredTotal; // Sum of the squared net result of every hand
+
+    /**
+     * Records the outcome of one hand.
+     *
+     * @param result the ThreeCardLogic comparison result, or -1 if the player folded
+     * @param handValue the player's ThreeCardLogic hand value
+     * @param net the net result of the hand in betting units
+     */
+    void record(int result, int handValue, int net) {
+        hands++;
+        if (result < 0) {
+            folds++;
+        } else if (result == ThreeCardLogic.PLAYER_WIN) {
+            wins++;
+        } else if (result == ThreeCardLogic.DEALER_WIN) {
+            losses++;
+        } else {
+            ties++;
+        }
+        pairPlusHits[handValue]++;
+        netTotal += net;
+        netSquaredTotal += (long) net * net;
+    }
+
+    /**
+     * Adds the counts of another result to this one.
+     *
+     * @param other the result to merge in
+     */
+    void merge(SimulationResult other) {
+        hands += other.hands;
+        wins += other.wins;
+        ties += other.ties;
+        losses += other.losses;
+        folds += other.folds;
+        for (int i = 0; i < pairPlusHits.length; i++) {
+            pairPlusHits[i] += other.pairPlusHits[i];
+        }
+        netTotal += other.netTotal;
+        netSquaredTotal += other.netSquaredTotal;
+    }
+
+    public long getHands() {
+        return hands;
+    }
+
+    public double getWinRate() {
+        return rate(wins);
+    }
+
+    public double getTieRate() {
+        return rate(ties);
+    }
+
+    public double getLossRate() {
+        return rate(losses);
+    }
+
+    public double getFoldRate() {
+        return rate(folds);
+    }
+
+    /**
+     * @param handValue a ThreeCardLogic hand value (0 to 5)
+     * @return how often the player was dealt that hand value
+     */
+    public double getPairPlusFrequency(int handValue) {
+        return rate(pairPlusHits[handValue]);
+    }
+
+    /**
+     * @return the mean net result per hand, in betting units
+     */
+    public double getMeanNet() {
+        return hands == 0 ? 0 : (double) netTotal / hands;
+    }
+
+    /**
+     * @return the sample variance of the net result per hand
+     */
+    public double getVariance() {
+        if (hands < 2) {
+            return 0;
+        }
+        double mean = getMeanNet();
+        return ((double) netSquaredTotal - hands * mean * mean) / (hands - 1);
+    }
+
+    /**
+     * @return the standard deviation of the net result per hand
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return the half-width of the 95% confidence interval around the mean net result
+     */
+    public double getConfidenceHalfWidth() {
+        return hands == 0 ? 0 : Z_95 * getStandardDeviation() / Math.sqrt(hands);
+    }
+
+    private double rate(long count) {
+        return hands == 0 ? 0 : (double) count / hands;
+    }
+
+    @Override
+    public String toString() {
+        String[] names = {"High Card", "Straight Flush", "Three of a Kind", "Straight", "Flush", "Pair"};
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Hands: %d%n", hands));
+        report.append(String.format("Win %.6f | Tie %.6f | Loss %.6f | Fold %.6f%n",
+                getWinRate(), getTieRate(), getLossRate(), getFoldRate()));
+        for (int handValue = 1; handValue < names.length; handValue++) {
+            report.append(String.format("Pair Plus %s: %.6f%n", names[handValue], getPairPlusFrequency(handValue)));
+        }
+        report.append(String.format("Net per hand: %+.6f +/- %.6f (95%%) | variance %.4f | std dev %.4f",
+                getMeanNet(), getConfidenceHalfWidth(), getVariance(), getStandardDeviation()));
+        return report.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package Logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import logging.Log;
+import logging.LogLevel;
+import logging.Logger;
+import logging.RateLimiter;
+import logging.RollingFileWriter;
+
+class LoggingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRateLimiterAllowsPermitsPerWindow() {
+        RateLimiter limiter = new RateLimiter(3);
+        long second = 5_000_000_000L;
+        assertTrue(limiter.tryAcquire(second));
+        assertTrue(limiter.tryAcquire(second + 1));
+        assertTrue(limiter.tryAcquire(second + 2));
+        assertFalse(limiter.tryAcquire(second + 3), "Fourth event in the same second should be suppressed.");
+        assertEquals(1, limiter.takeSuppressed());
+        assertEquals(0, limiter.takeSuppressed(), "Suppressed count should reset once taken.");
+        assertTrue(limiter.tryAcquire(second + 1_000_000_000L), "A new second should allow events again.");
+    }
+
+    @Test
+    void testRateLimiterZeroMeansUnlimited() {
+        RateLimiter limiter = new RateLimiter(0);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(limiter.tryAcquire(0));
+        }
+    }
+
+    @Test
+    void testRollingFileWriterRotates() throws Exception {
+        Path file = tempDir.resolve("server.log");
+        try (RollingFileWriter writer = new RollingFileWriter(file, 64, 2)) {
+            for (int i = 0; i < 20; i++) {
+                writer.writeLine("event number " + i + " padded out a little");
+            }
+        }
+
+        assertTrue(Files.exists(file.resolveSibling("server.log.1")), "Full file should rotate to .1");
+        assertTrue(Files.exists(file.resolveSibling("server.log.2")), "Older file should shift to .2");
+        assertFalse(Files.exists(file.resolveSibling("server.log.3")), "Only two backups should be kept.");
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals("event number 19 padded out a little", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    void testLoggerFlushesFromManyThreads() throws Exception {
+        Logger logger = Log.getLogger(LoggingTest.class);
+        assertSame(logger, Log.getLogger("LoggingTest"), "Loggers should be shared by name.");
+        assertFalse(logger.isEnabled(LogLevel.DEBUG), "Default level should be INFO.");
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 25; i++) {
+                    logger.info("thread " + id + " event " + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(Log.flush(), "Writer should catch up with every published event.");
+
+        // The build sends log output to a file rather than the console
+        String sink = System.getProperty("poker.log.file");
+        if (sink != null) {
+            List<String> lines = Files.readAllLines(Path.of(sink), StandardCharsets.UTF_8);
+            for (int t = 0; t < threads.length; t++) {
+                String event = "thread " + t + " event 24";
+                assertTrue(lines.stream().anyMatch(line -> line.endsWith(event)), "Every event should be written.");
+            }
+        }
+    }
+
+    @Test
+    void testIdleWriterWakesForNewEvents() throws Exception {
+        Logger logger = Log.getLogger("IdleTest");
+        assertTrue(Log.flush());
+        Thread.sleep(50); // Long enough for the writer to park
+        logger.info("event after idle");
+        assertTrue(Log.flush(), "A parked writer should wake for a new event.");
+    }
+}
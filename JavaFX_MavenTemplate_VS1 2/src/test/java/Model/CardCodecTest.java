@@ -0,0 +1,96 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import model.Card;
+import model.CardCodec;
+import model.PackedHand;
+import model.ThreeCardLogic;
+
+class CardCodecTest {
+
+    @Test
+    void testEveryCodeRoundTrips() {
+        for (int code = 0; code < CardCodec.DECK_SIZE; code++) {
+            Card card = CardCodec.toCard(code);
+            assertEquals(code, CardCodec.encode(card), "Card code should survive a round trip.");
+            assertEquals(code, CardCodec.encode(card.getSuit(), card.getValue()));
+        }
+    }
+
+    @Test
+    void testCodeOrdering() {
+        assertEquals(0, CardCodec.encode('C', 2), "Two of Clubs should be the first code.");
+        assertEquals(51, CardCodec.encode('S', 14), "Ace of Spades should be the last code.");
+        assertEquals('H', CardCodec.suit(CardCodec.encode('H', 9)));
+        assertEquals(9, CardCodec.value(CardCodec.encode('H', 9)));
+    }
+
+    @Test
+    void testInvalidCardThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode('X', 7));
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode('C', 15));
+    }
+
+    @Test
+    void testPackedHandHoldsCardsInOrder() {
+        int packed = PackedHand.of(51, 0, 17);
+        assertEquals(3, PackedHand.size(packed));
+        assertEquals(51, PackedHand.card(packed, 0));
+        assertEquals(0, PackedHand.card(packed, 1));
+        assertEquals(17, PackedHand.card(packed, 2));
+    }
+
+    @Test
+    void testPackedHandFromShortList() {
+        ArrayList<Card> cards = new ArrayList<>(Arrays.asList(new Card('D', 5)));
+        int packed = PackedHand.of(cards);
+        assertEquals(1, PackedHand.size(packed));
+        assertEquals(CardCodec.encode('D', 5), PackedHand.card(packed, 0));
+        assertEquals(PackedHand.EMPTY, PackedHand.of(new ArrayList<>()));
+        assertEquals(0, ThreeCardLogic.evalHand(packed), "Incomplete packed hand should evaluate to 0.");
+    }
+
+    @Test
+    void testIntOverloadsMatchListApi() {
+        ArrayList<Card> dealer = new ArrayList<>(Arrays.asList(new Card('D', 9), new Card('H', 9), new Card('C', 5)));
+        ArrayList<Card> player = new ArrayList<>(Arrays.asList(new Card('C', 10), new Card('C', 11), new Card('C', 12)));
+        int dealerPacked = PackedHand.of(dealer);
+        int playerPacked = PackedHand.of(player);
+
+        assertEquals(ThreeCardLogic.evalHand(player), ThreeCardLogic.evalHand(playerPacked));
+        assertEquals(ThreeCardLogic.evalHand(player), ThreeCardLogic.evalHand(
+                CardCodec.encode('C', 10), CardCodec.encode('C', 11), CardCodec.encode('C', 12)));
+        assertEquals(ThreeCardLogic.evalPPWinnings(player, 5), ThreeCardLogic.evalPPWinnings(playerPacked, 5));
+        assertEquals(ThreeCardLogic.compareHands(dealer, player), ThreeCardLogic.compareHands(dealerPacked, playerPacked));
+    }
+
+    @Test
+    void testCardOfReturnsSharedInstance() {
+        assertSame(Card.of('H', 11), Card.of('H', 11), "Card.of should return one instance per card.");
+        assertSame(Card.of('S', 14), CardCodec.toCard(CardCodec.encode('S', 14)));
+        assertEquals(Card.of('D', 7), new Card('D', 7), "Cards with the same suit and value should be equal.");
+        assertEquals(Card.of('D', 7).hashCode(), new Card('D', 7).hashCode());
+        assertNotEquals(Card.of('D', 7), Card.of('C', 7));
+    }
+
+    @Test
+    void testDeserializedCardIsSharedInstance() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new Card('C', 12));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(Card.of('C', 12), in.readObject(), "Deserialized card should resolve to the shared instance.");
+        }
+    }
+}
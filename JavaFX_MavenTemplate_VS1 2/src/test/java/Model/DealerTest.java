@@ -2,13 +2,21 @@ package Model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import model.Card;
 import model.Dealer;
+import model.Hand;
+import model.PokerInfo;
 
 class DealerTest {
 
@@ -21,7 +29,7 @@ class DealerTest {
 
     @Test
     public void testDealHandReturnsThreeCards() {
-        ArrayList<Card> hand = dealer.dealHand();
+        Hand hand = dealer.dealHand();
         assertNotNull(hand, "The dealt hand should not be null.");
         assertEquals(3, hand.size(), "The hand should contain exactly 3 cards.");
     }
@@ -46,30 +54,59 @@ class DealerTest {
         sampleHand.add(new Card('D', 14)); // Ace of Diamonds
 
         dealer.setDealersHand(sampleHand);
-        ArrayList<Card> retrievedHand = dealer.getDealersHand();
+        Hand retrievedHand = dealer.getDealersHand();
 
         assertEquals(sampleHand.size(), retrievedHand.size(), "The stored hand should have the same size as the input.");
         assertEquals(sampleHand, retrievedHand, "The retrieved hand should match the input hand.");
     }
 
     @Test
-    public void testGetDealersHandReturnsCopy() {
+    public void testGetDealersHandCannotBeModified() {
         ArrayList<Card> sampleHand = new ArrayList<>();
         sampleHand.add(new Card('H', 5)); // 5 of Hearts
         sampleHand.add(new Card('C', 7)); // 7 of Clubs
         sampleHand.add(new Card('S', 13)); // King of Spades
 
         dealer.setDealersHand(sampleHand);
-        ArrayList<Card> retrievedHand = dealer.getDealersHand();
+        Hand retrievedHand = dealer.getDealersHand();
 
-        // Modify the retrieved hand
-        retrievedHand.clear();
+        // Neither the retrieved hand nor the caller's list should be able to change the dealer's hand
+        assertThrows(UnsupportedOperationException.class, retrievedHand::clear);
+        sampleHand.clear();
 
-        // Original hand in the dealer should remain unchanged
-        ArrayList<Card> originalHand = dealer.getDealersHand();
+        Hand originalHand = dealer.getDealersHand();
         assertFalse(originalHand.isEmpty(), "The original hand in the dealer should not be affected.");
     }
 
+    @Test
+    public void testHandSerializesAndMatchesLists() throws Exception {
+        Hand hand = Hand.of(Card.of('H', 10), Card.of('S', 11), Card.of('D', 14));
+        assertEquals(Arrays.asList(Card.of('H', 10), Card.of('S', 11), Card.of('D', 14)), hand);
+        assertEquals(Arrays.asList(Card.of('H', 10), Card.of('S', 11), Card.of('D', 14)).hashCode(), hand.hashCode());
+        assertSame(hand, Hand.of(hand), "Converting a Hand should not copy it.");
+
+        PokerInfo info = new PokerInfo();
+        info.setPlayerHand(hand);
+        assertSame(hand, info.getPlayerHand(), "Game state should share hands rather than copy them.");
+        assertTrue(info.getDealerHand().isEmpty());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(hand);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(hand, in.readObject(), "Hand should survive serialization.");
+        }
+
+        // The packed int is the last field written; claim four cards where at most three fit
+        byte[] crafted = bytes.toByteArray();
+        ByteBuffer.wrap(crafted).putInt(crafted.length - 4, 4 << 18);
+        assertThrows(IllegalArgumentException.class, () -> Hand.of(4 << 18));
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(crafted))) {
+            assertThrows(IllegalArgumentException.class, in::readObject, "A hand of more than three cards should be rejected.");
+        }
+    }
+
     @Test
     public void testReshufflingDeckDoesNotDuplicateCards() {
         ArrayList<Card> allCards = new ArrayList<>();
@@ -0,0 +1,62 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.Deck;
+import model.DeckPool;
+import model.DeckRandom;
+
+class DeckPoolTest {
+
+    @Test
+    void testTakeReturnsFullShuffledDeck() throws Exception {
+        try (DeckPool pool = new DeckPool(4, DeckRandom.seeded(1L))) {
+            Deck deck = pool.take();
+            assertEquals(52, deck.size(), "A deck from the pool should be full.");
+
+            boolean[] seen = new boolean[52];
+            while (!deck.isEmpty()) {
+                int code = deck.dealCode();
+                assertFalse(seen[code], "No card should appear twice in a pooled deck.");
+                seen[code] = true;
+            }
+        }
+    }
+
+    @Test
+    void testReleasedDeckComesBackFull() throws Exception {
+        try (DeckPool pool = new DeckPool(2, DeckRandom.fast())) {
+            Deck deck = pool.take();
+            deck.deal();
+            deck.deal();
+            pool.release(deck);
+
+            for (int i = 0; i < 10; i++) {
+                assertEquals(52, pool.take().size(), "Every deck taken should be full.");
+            }
+        }
+    }
+
+    @Test
+    void testEmptyPoolFallsBackToShufflingOnDemand() {
+        DeckPool pool = new DeckPool(1, DeckRandom.secure());
+        pool.close();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(52, pool.take().size(), "A stopped pool should still hand out full decks.");
+        }
+        assertTrue(pool.fallbackCount() >= 4, "Takes beyond the ready decks should fall back.");
+    }
+
+    @Test
+    void testSeededRandomIsReproducible() {
+        Deck deck1 = new Deck(DeckRandom.seeded(99L).split());
+        Deck deck2 = new Deck(DeckRandom.seeded(99L).split());
+        for (int i = 0; i < 52; i++) {
+            assertEquals(deck1.dealCode(), deck2.dealCode(), "Seeded streams should split the same way.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> DeckRandom.named("shuffled"));
+    }
+}
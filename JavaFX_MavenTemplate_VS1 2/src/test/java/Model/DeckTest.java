@@ -56,7 +56,7 @@ class DeckTest {
 	@Test
 	void testNewDeckCreation() {
 	    Deck deck = new Deck();
-	    deck.remove(0); // Remove one card
+	    deck.deal(); // Deal one card
 	    deck.newDeck(); // Reset the deck
 
 	    assertEquals(52, deck.size(), "Deck should have 52 cards after calling newDeck().");
@@ -65,10 +65,33 @@ class DeckTest {
 	@Test
 	void testCardRemoval() {
 	    Deck deck = new Deck();
-	    Card removedCard = deck.remove(0);
+	    Card dealtCard = deck.deal();
 
-	    assertNotNull(removedCard, "Removed card should not be null.");
-	    assertEquals(51, deck.size(), "Deck size should decrease by 1 after removing a card.");
+	    assertNotNull(dealtCard, "Dealt card should not be null.");
+	    assertEquals(51, deck.size(), "Deck size should decrease by 1 after dealing a card.");
+	}
+
+	@Test
+	void testDealingWholeDeckGivesEveryCardOnce() {
+	    Deck deck = new Deck(42L);
+	    boolean[] seen = new boolean[52];
+	    for (int i = 0; i < 52; i++) {
+	        int code = deck.dealCode();
+	        assertFalse(seen[code], "No card should be dealt twice.");
+	        seen[code] = true;
+	    }
+
+	    assertTrue(deck.isEmpty(), "Deck should be empty after dealing 52 cards.");
+	    assertThrows(IllegalStateException.class, deck::deal);
+	}
+
+	@Test
+	void testSeededDecksShuffleAlike() {
+	    Deck deck1 = new Deck(7L);
+	    Deck deck2 = new Deck(7L);
+	    for (int i = 0; i < 52; i++) {
+	        assertSame(deck1.deal(), deck2.deal(), "Decks with the same seed should deal the same cards.");
+	    }
 	}
 
 
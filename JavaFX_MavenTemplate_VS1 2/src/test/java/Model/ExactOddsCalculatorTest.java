@@ -0,0 +1,53 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import model.CardCodec;
+import model.ExactOddsCalculator;
+import model.PackedHand;
+
+class ExactOddsCalculatorTest {
+
+    private static ExactOddsCalculator.Result result;
+
+    @BeforeAll
+    static void enumerate() {
+        result = ExactOddsCalculator.calculate();
+    }
+
+    @Test
+    void testFrequenciesSumToOne() {
+        double total = result.getWinFrequency() + result.getTieFrequency() + result.getLossFrequency();
+        assertEquals(1.0, total, 1e-12, "Win, tie and loss frequencies should cover every matchup.");
+        assertEquals(22100L * 18424L, result.getMatchups());
+    }
+
+    @Test
+    void testWinsAndLossesAreSymmetric() {
+        // Every matchup won by one hand is lost by the other, so the totals must mirror
+        assertEquals(result.getWinFrequency(), result.getLossFrequency(), 1e-12,
+                "Player and dealer draw from the same hands, so wins and losses balance.");
+    }
+
+    @Test
+    void testPairPlusFrequencies() {
+        assertEquals(44.0 / 22100, result.getPairPlusFrequency(1), 1e-12, "Straight flush frequency should match.");
+        assertEquals(3744.0 / 22100, result.getPairPlusFrequency(5), 1e-12, "Pair frequency should match.");
+
+        double expected = (44 * 40 + 52 * 30 + 660 * 6 + 1100 * 3 + 3744 * 1 - 16500) / 22100.0;
+        assertEquals(expected, result.getPairPlusExpectedValue(), 1e-12, "Pair Plus EV should match the paytable.");
+    }
+
+    @Test
+    void testPerHandCounts() {
+        int bestHand = PackedHand.of(CardCodec.encode('S', 12), CardCodec.encode('S', 13), CardCodec.encode('S', 14));
+        assertEquals(0, result.getLosses(bestHand), "Ace-high straight flush can never lose.");
+        assertEquals(3, result.getTies(bestHand), "Only the other ace-high straight flushes tie it.");
+
+        int worstHand = PackedHand.of(CardCodec.encode('C', 2), CardCodec.encode('D', 3), CardCodec.encode('H', 5));
+        assertEquals(0, result.getWins(worstHand), "Five-high never beats another hand.");
+    }
+}
@@ -0,0 +1,49 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import model.Paytable;
+import model.ThreeCardLogic;
+
+class PaytableTest {
+
+    @Test
+    void testStandardPaytableMatchesOriginalPayouts() {
+        Paytable paytable = Paytable.standard();
+        assertEquals(400, paytable.pairPlusWinnings(1, 10), "Straight Flush with $10 bet should pay $400.");
+        assertEquals(30, paytable.pairPlusWinnings(4, 10), "Flush with $10 bet should pay $30.");
+        assertEquals(0, paytable.pairPlusWinnings(0, 10), "High Card should pay $0.");
+        assertEquals(-10, paytable.pairPlusNet(0, 10), "A losing Pair Plus bet is lost.");
+
+        assertEquals(40, paytable.anteAndPlayWinnings(ThreeCardLogic.PLAYER_WIN, 10, 10));
+        assertEquals(20, paytable.anteAndPlayWinnings(ThreeCardLogic.TIE, 10, 10));
+        assertEquals(-20, paytable.anteAndPlayWinnings(ThreeCardLogic.DEALER_WIN, 10, 10));
+        assertEquals(0, paytable.anteBonus(1, 10), "Standard paytable has no Ante bonus.");
+    }
+
+    @Test
+    void testBundledVariantLoadsByName() {
+        Paytable paytable = Paytable.load("ante-bonus");
+        assertEquals("Ante Bonus", paytable.getName());
+        assertEquals(50, paytable.anteBonus(1, 10), "Straight Flush Ante bonus should pay 5 to 1.");
+        assertEquals(10, paytable.anteBonus(3, 10), "Straight Ante bonus should pay 1 to 1.");
+        assertEquals(0, paytable.anteBonus(4, 10), "Flush earns no Ante bonus.");
+        assertEquals(40, paytable.pairPlusWinnings(4, 10), "Flush with $10 bet should pay $40.");
+    }
+
+    @Test
+    void testMissingPayoutIsRejected() {
+        byte[] config = "name=Broken\nante.win=1\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertThrows(IllegalArgumentException.class, () -> Paytable.load(new ByteArrayInputStream(config)));
+    }
+
+    @Test
+    void testUnknownPaytableIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Paytable.load("no-such-paytable"));
+    }
+}
@@ -0,0 +1,73 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.Dealer;
+import model.DeckRandom;
+import model.Hand;
+import model.Shoe;
+
+class ShoeTest {
+
+    @Test
+    void testEightDeckShoeHoldsEightOfEachCard() {
+        Shoe shoe = Shoe.finite(8, 1.0, DeckRandom.seeded(3L));
+        assertEquals(416, shoe.size(), "A fully dealt eight-deck shoe should offer 416 cards.");
+
+        int[] counts = new int[52];
+        while (shoe.size() > 0) {
+            counts[shoe.dealCode()]++;
+        }
+        for (int count : counts) {
+            assertEquals(8, count, "Each card should appear once per deck.");
+        }
+        assertThrows(IllegalStateException.class, shoe::dealCode);
+    }
+
+    @Test
+    void testPenetrationPlacesCutCard() {
+        Shoe shoe = Shoe.finite(6, 0.75, DeckRandom.seeded(4L));
+        assertEquals(234, shoe.size(), "Three quarters of a six-deck shoe should be dealt.");
+
+        for (int i = 0; i < 234; i++) {
+            shoe.dealCode();
+        }
+        assertEquals(0, shoe.size(), "Shoe should need shuffling at the cut card.");
+        shoe.shuffle();
+        assertEquals(234, shoe.size());
+    }
+
+    @Test
+    void testContinuousShufflerTakesBackEachRound() {
+        Shoe machine = Shoe.continuous(1, DeckRandom.seeded(5L));
+        boolean[] seen = new boolean[52];
+        for (int i = 0; i < 52; i++) {
+            int code = machine.dealCode();
+            assertFalse(seen[code], "A card should not be dealt twice in one round.");
+            seen[code] = true;
+        }
+        assertEquals(0, machine.size());
+
+        machine.endRound();
+        assertEquals(52, machine.size(), "Collected cards should go straight back into the machine.");
+    }
+
+    @Test
+    void testInvalidShoeThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Shoe.finite(0, 0.5, DeckRandom.fast()));
+        assertThrows(IllegalArgumentException.class, () -> Shoe.finite(9, 0.5, DeckRandom.fast()));
+        assertThrows(IllegalArgumentException.class, () -> Shoe.finite(2, 0.0, DeckRandom.fast()));
+    }
+
+    @Test
+    void testDealerDealsFromShoe() {
+        Dealer dealer = new Dealer(Shoe.finite(2, 0.5, DeckRandom.seeded(6L)));
+        for (int round = 0; round < 40; round++) {
+            Hand hand = dealer.dealHand();
+            assertEquals(3, hand.size(), "Dealer should always deal three cards, reshuffling as needed.");
+            dealer.endRound();
+        }
+    }
+}
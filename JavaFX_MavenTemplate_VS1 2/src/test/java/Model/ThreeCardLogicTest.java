@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import model.Card;
+import model.PackedHand;
 import model.ThreeCardLogic;
 
 class ThreeCardLogicTest {
@@ -130,6 +132,95 @@ class ThreeCardLogicTest {
         assertEquals(1, ThreeCardLogic.compareHands(dealer, player), "Dealer with higher High Card should win.");
     }
     
+    @Test
+    void testDealerStraightFlushBeatsPlayerPair() {
+        ArrayList<Card> player = createHand('C', 8, 'H', 8, 'S', 3);
+        ArrayList<Card> dealer = createHand('H', 5, 'H', 6, 'H', 7);
+        assertEquals(1, ThreeCardLogic.compareHands(dealer, player), "A lower rank number is the stronger hand.");
+    }
+
+    @Test
+    void testPairOutranksKicker() {
+        ArrayList<Card> player = createHand('C', 8, 'H', 8, 'S', 3);
+        ArrayList<Card> dealer = createHand('D', 5, 'S', 5, 'C', 13);
+        assertEquals(2, ThreeCardLogic.compareHands(dealer, player), "Higher pair should beat a higher kicker.");
+    }
+
+    @Test
+    void testTieSameValues() {
+        ArrayList<Card> player = createHand('C', 8, 'H', 8, 'S', 3);
+        ArrayList<Card> dealer = createHand('D', 8, 'S', 8, 'C', 3);
+        assertEquals(0, ThreeCardLogic.compareHands(dealer, player), "Hands with the same values should tie.");
+    }
+
+    @Test
+    void testHandStrengthOrdersCategories() {
+        int highCard = ThreeCardLogic.handStrength(createHand('D', 14, 'H', 13, 'C', 11));
+        int pair = ThreeCardLogic.handStrength(createHand('C', 2, 'H', 2, 'S', 3));
+        int flush = ThreeCardLogic.handStrength(createHand('H', 2, 'H', 3, 'H', 5));
+        int straight = ThreeCardLogic.handStrength(createHand('C', 2, 'D', 3, 'H', 4));
+        int threeOfAKind = ThreeCardLogic.handStrength(createHand('H', 2, 'C', 2, 'D', 2));
+        int straightFlush = ThreeCardLogic.handStrength(createHand('C', 2, 'C', 3, 'C', 4));
+
+        assertTrue(highCard < pair, "Pair should beat high card.");
+        assertTrue(pair < flush, "Flush should beat pair.");
+        assertTrue(flush < straight, "Straight should beat flush.");
+        assertTrue(straight < threeOfAKind, "Three of a kind should beat straight.");
+        assertTrue(threeOfAKind < straightFlush, "Straight flush should beat three of a kind.");
+        assertEquals(0, ThreeCardLogic.handStrength(new ArrayList<>()), "Empty hand should score 0.");
+    }
+
+    @Test
+    void testBatchEvaluationMatchesScalar() {
+        Random random = new Random(42);
+        int[] packedHands = new int[5000];
+        for (int i = 0; i < packedHands.length; i++) {
+            packedHands[i] = PackedHand.of(random.nextInt(52), random.nextInt(52), random.nextInt(52));
+        }
+        packedHands[0] = PackedHand.EMPTY;
+
+        int[] handValues = new int[packedHands.length];
+        int[] strengths = new int[packedHands.length];
+        ThreeCardLogic.evalHands(packedHands, handValues);
+        ThreeCardLogic.handStrengths(packedHands, strengths);
+
+        for (int i = 0; i < packedHands.length; i++) {
+            assertEquals(ThreeCardLogic.evalHand(packedHands[i]), handValues[i], "Batch hand value should match scalar.");
+            assertEquals(ThreeCardLogic.handStrength(packedHands[i]), strengths[i], "Batch strength should match scalar.");
+        }
+    }
+
+    @Test
+    void testBatchEvaluationChecksRange() {
+        int[] packedHands = new int[4];
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ThreeCardLogic.evalHands(packedHands, 2, new int[4], 0, 3), "Range past the input should throw.");
+    }
+
+    @Test
+    void testDecisionTablePlaysStrongHands() {
+        ArrayList<Card> hand = createHand('S', 12, 'S', 13, 'S', 14);
+        assertTrue(ThreeCardLogic.shouldPlay(hand), "The best hand should always be played.");
+        assertTrue(ThreeCardLogic.playExpectedValue(PackedHand.of(hand)) > ThreeCardLogic.foldExpectedValue());
+    }
+
+    @Test
+    void testDecisionTableFoldsHandsThatNeverWin() {
+        ArrayList<Card> hand = createHand('C', 2, 'D', 3, 'H', 5);
+        assertFalse(ThreeCardLogic.shouldPlay(hand), "A hand that cannot win should be folded.");
+        assertTrue(ThreeCardLogic.playExpectedValue(PackedHand.of(hand)) < -1.9,
+                "Playing a hand that can only lose or tie costs nearly the Ante and the Play bet.");
+    }
+
+    @Test
+    void testDecisionTableRejectsIncompleteHands() {
+        // The empty third slot would otherwise read as the 2 of Clubs
+        int packed = PackedHand.of(createHand('D', 3, 'H', 5, 'C', 2).subList(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardLogic.shouldPlay(packed),
+                "A two-card hand should not get a decision.");
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardLogic.playExpectedValue(packed));
+    }
+
     @Test
     void testEmptyHand() {
         ArrayList<Card> hand = new ArrayList<>();
@@ -153,6 +244,61 @@ class ThreeCardLogicTest {
         assertThrows(IllegalArgumentException.class, () -> new Card('C', 1), "Invalid value should throw exception.");
     }
 
+    @Test
+    void testInvalidCardCodeHandling() {
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardLogic.evalHand(0, 1, 52),
+                "A card code past the deck should throw exception.");
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardLogic.handStrength(PackedHand.of(63, 1, 2)),
+                "A packed card code past the deck should throw exception.");
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardLogic.evalHand(-1, 1, 2),
+                "A negative card code should throw exception.");
+    }
+
+    @Test
+    void testHandCategoryCountsOverAllHands() {
+        char[] suits = {'C', 'D', 'H', 'S'};
+        ArrayList<Card> deck = new ArrayList<>();
+        for (char suit : suits) {
+            for (int value = 2; value <= 14; value++) {
+                deck.add(new Card(suit, value));
+            }
+        }
+
+        int[] counts = new int[6];
+        for (int i = 0; i < 52; i++) {
+            for (int j = i + 1; j < 52; j++) {
+                for (int k = j + 1; k < 52; k++) {
+                    ArrayList<Card> hand = new ArrayList<>(Arrays.asList(deck.get(i), deck.get(j), deck.get(k)));
+                    counts[ThreeCardLogic.evalHand(hand)]++;
+                }
+            }
+        }
+
+        assertEquals(16500, counts[0], "High card count should match.");
+        assertEquals(44, counts[1], "Straight flush count should match.");
+        assertEquals(52, counts[2], "Three of a kind count should match.");
+        assertEquals(660, counts[3], "Straight count should match.");
+        assertEquals(1100, counts[4], "Flush count should match.");
+        assertEquals(3744, counts[5], "Pair count should match.");
+    }
+
+    @Test
+    void testPredicatesOverlapLikeOriginalChecks() {
+        ArrayList<Card> straightFlush = createHand('S', 12, 'S', 14, 'S', 13);
+        assertTrue(ThreeCardLogic.isFlush(straightFlush), "A straight flush is also a flush.");
+        assertTrue(ThreeCardLogic.isStraight(straightFlush), "A straight flush is also a straight.");
+
+        ArrayList<Card> trips = createHand('H', 9, 'C', 9, 'S', 9);
+        assertTrue(ThreeCardLogic.isPair(trips), "Three of a kind also contains a pair.");
+        assertFalse(ThreeCardLogic.isStraight(createHand('H', 14, 'C', 2, 'S', 3)), "Ace plays high only.");
+    }
+
+    @Test
+    void testRepeatedCardIsStillEvaluated() {
+        ArrayList<Card> hand = createHand('D', 6, 'D', 6, 'D', 6);
+        assertEquals(2, ThreeCardLogic.evalHand(hand), "Three identical cards evaluate as three of a kind.");
+    }
+
 //    @Test
 //    void testMultipleDeckEvaluations() {
 //        ArrayList<Card> hand1 = createHand('C', 8, 'H', 8, 'S', 3);
@@ -0,0 +1,95 @@
+package Network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import model.PokerInfo;
+import network.Broadcast;
+import network.GameProtocol;
+import network.SharedFrame;
+import network.StateEncoder;
+
+class BroadcastTest {
+
+    private static PokerInfo stateWithBet(int ante) {
+        PokerInfo info = new PokerInfo();
+        info.setAnteBet(ante);
+        return info;
+    }
+
+    private static byte[] payload(SharedFrame frame) {
+        ByteBuffer view = frame.view();
+        byte[] payload = new byte[view.getInt()];
+        view.get(payload);
+        return payload;
+    }
+
+    @Test
+    void testPlayersInStepShareOneFrame() {
+        StateEncoder first = new StateEncoder(true);
+        StateEncoder second = new StateEncoder(true);
+
+        Broadcast deal = new Broadcast(stateWithBet(5), false, 2);
+        SharedFrame a = first.encode(deal);
+        SharedFrame b = second.encode(deal);
+        deal.done();
+        deal.done();
+        assertSame(a, b, "Both players should get the same snapshot frame.");
+        assertEquals(2, a.references(), "Each writer should hold its own reference.");
+        a.release();
+        b.release();
+        assertEquals(0, a.references(), "The frame should be freed after the last write.");
+
+        Broadcast play = new Broadcast(stateWithBet(10), false, 2);
+        SharedFrame c = first.encode(play);
+        SharedFrame d = second.encode(play);
+        assertSame(c, d, "Players holding the same state should share the delta.");
+        assertEquals(GameProtocol.DELTA, payload(c)[0]);
+        c.release();
+        d.release();
+        play.done();
+        play.done();
+        assertEquals(0, c.references());
+    }
+
+    @Test
+    void testPlayerOutOfStepGetsOwnFrame() throws Exception {
+        StateEncoder inStep = new StateEncoder(true);
+        StateEncoder behind = new StateEncoder(true);
+        Broadcast first = new Broadcast(stateWithBet(5), false, 1);
+        inStep.encode(first).release(); // Only one player received this update
+        first.done();
+
+        Broadcast next = new Broadcast(stateWithBet(10), false, 2);
+        SharedFrame delta = inStep.encode(next);
+        SharedFrame snapshot = behind.encode(next);
+        assertNotSame(delta, snapshot);
+        assertEquals(GameProtocol.DELTA, payload(delta)[0]);
+        assertEquals(GameProtocol.STATE, payload(snapshot)[0], "A player with no state needs a snapshot.");
+        assertEquals(10, GameProtocol.decode(payload(snapshot)).getAnteBet());
+        delta.release();
+        snapshot.release();
+        next.done();
+        next.done();
+    }
+
+    @Test
+    void testFrameWritesWithLengthPrefix() throws IOException {
+        byte[] payload = GameProtocol.encodeDeal(25, 10);
+        SharedFrame frame = SharedFrame.of(payload);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        frame.writeTo(out);
+
+        ByteBuffer written = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(payload.length, written.getInt());
+        assertEquals(payload.length + 4, frame.length());
+        frame.release();
+        assertThrows(IllegalStateException.class, frame::release, "A frame should not be released twice.");
+        assertThrows(IllegalStateException.class, frame::retain);
+    }
+}
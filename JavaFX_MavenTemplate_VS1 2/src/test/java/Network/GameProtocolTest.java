@@ -0,0 +1,102 @@
+package Network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+
+import org.junit.jupiter.api.Test;
+
+import model.Card;
+import model.Hand;
+import model.PokerInfo;
+import network.GameProtocol;
+
+class GameProtocolTest {
+
+    private static PokerInfo sampleState() {
+        PokerInfo info = new PokerInfo();
+        info.setAnteBet(25);
+        info.setPairPlusBet(5);
+        info.setPlayBet(25);
+        info.setTotalWinnings(-130);
+        info.setGameMessage("Player 1 wins against dealer!");
+        info.setPlayerHand(Hand.of(Card.of('H', 14), Card.of('H', 13), Card.of('H', 12)));
+        info.setOpponentHand(Hand.of(Card.of('C', 2), Card.of('D', 7), Card.of('S', 9)));
+        info.setDealerHand(Hand.of(Card.of('S', 14), Card.of('D', 14), Card.of('C', 3)));
+        info.setDealerCardsHidden(false);
+        return info;
+    }
+
+    @Test
+    void testStateRoundTrip() throws ProtocolException {
+        PokerInfo sent = sampleState();
+        byte[] payload = GameProtocol.encodeResult(1, sent);
+        assertEquals(GameProtocol.RESULT, GameProtocol.type(payload));
+
+        PokerInfo received = GameProtocol.decode(payload);
+        assertEquals(sent.getAnteBet(), received.getAnteBet());
+        assertEquals(sent.getPairPlusBet(), received.getPairPlusBet());
+        assertEquals(sent.getPlayBet(), received.getPlayBet());
+        assertEquals(-130, received.getTotalWinnings(), "Negative winnings should survive encoding.");
+        assertEquals(sent.getGameMessage(), received.getGameMessage());
+        assertEquals(sent.getPlayerHand(), received.getPlayerHand());
+        assertEquals(sent.getOpponentHand(), received.getOpponentHand());
+        assertEquals(sent.getDealerHand(), received.getDealerHand());
+        assertFalse(received.isDealerCardsHidden());
+    }
+
+    @Test
+    void testHiddenDealerCardsAreNotSent() throws ProtocolException {
+        PokerInfo sent = sampleState();
+        sent.setDealerCardsHidden(true);
+        PokerInfo received = GameProtocol.decode(GameProtocol.encodeState(1, sent));
+        assertTrue(received.isDealerCardsHidden());
+        assertTrue(received.getDealerHand().isEmpty(), "Hidden dealer cards should never reach the client.");
+    }
+
+    @Test
+    void testActionsAreSmall() throws ProtocolException {
+        byte[] deal = GameProtocol.encodeDeal(25, 10);
+        assertEquals(3, deal.length, "A deal with small bets should take three bytes.");
+        PokerInfo received = GameProtocol.decode(deal);
+        assertEquals(25, received.getAnteBet());
+        assertEquals(10, received.getPairPlusBet());
+
+        assertTrue(GameProtocol.decode(GameProtocol.encodeFold()).isPlayerFolded());
+        assertEquals(25, GameProtocol.decode(GameProtocol.encodePlay(25)).getPlayBet());
+        assertEquals(2, GameProtocol.decodeSeat(GameProtocol.encodeSeat(2)));
+    }
+
+    @Test
+    void testStateFitsSmallBudget() throws IOException {
+        PokerInfo info = sampleState();
+        int binary = GameProtocol.encodeState(1, info).length;
+        // Type, sequence, flags, turn, four small bets, the message and three hands of three cards
+        int budget = 1 + 1 + 1 + 1 + 4 * 2 + (1 + info.getGameMessage().length()) + 3 * (1 + 3);
+        assertTrue(binary <= budget, "Binary state took " + binary + " bytes, over its budget of " + budget + ".");
+    }
+
+    @Test
+    void testLongMessageIsTruncated() throws ProtocolException {
+        PokerInfo info = new PokerInfo();
+        info.setGameMessage("x".repeat(1000));
+        byte[] payload = GameProtocol.encodeState(1, info);
+        assertTrue(payload.length <= GameProtocol.MAX_MESSAGE_BYTES);
+        assertEquals(255, GameProtocol.decode(payload).getGameMessage().length());
+    }
+
+    @Test
+    void testMalformedMessagesAreRejected() {
+        assertThrows(ProtocolException.class, () -> GameProtocol.decode(new byte[0]));
+        assertThrows(ProtocolException.class, () -> GameProtocol.decode(new byte[] {99}), "Unknown type");
+        assertThrows(ProtocolException.class, () -> GameProtocol.decode(new byte[] {GameProtocol.DEAL, 50}),
+                "Truncated deal");
+        assertThrows(ProtocolException.class, () -> GameProtocol.decode(new byte[] {GameProtocol.FOLD, 0}),
+                "Trailing bytes");
+
+        byte[] badCard = GameProtocol.encodeState(1, sampleState());
+        badCard[badCard.length - 1] = 60;
+        assertThrows(ProtocolException.class, () -> GameProtocol.decode(badCard), "Card code out of range");
+    }
+}
@@ -0,0 +1,224 @@
+package Network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import network.BufferPool;
+import network.Connection;
+import network.ConnectionListener;
+import network.NioServer;
+import network.SharedFrame;
+
+class NioServerTest {
+
+    private ExecutorService handlers;
+    private NioServer server;
+
+    // Sends every frame straight back to its sender
+    private static final class EchoListener implements ConnectionListener {
+        @Override
+        public void onOpen(Connection connection) {
+        }
+
+        @Override
+        public void onFrame(Connection connection, byte[] payload) {
+            connection.send(payload);
+        }
+
+        @Override
+        public void onClose(Connection connection) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        handlers = Executors.newFixedThreadPool(2);
+        server = new NioServer(2, new EchoListener(), handlers);
+        server.bind(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void testFramesAreEchoedInOrder() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            for (int i = 0; i < 100; i++) {
+                out.writeInt(4);
+                out.writeInt(i);
+            }
+            out.flush();
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(4, in.readInt(), "Frame length should be preserved.");
+                assertEquals(i, in.readInt(), "Frames from one client should stay in order.");
+            }
+        }
+    }
+
+    @Test
+    void testSharedFrameIsWrittenAndFreed() throws Exception {
+        AtomicReference<SharedFrame> sent = new AtomicReference<>();
+        // Answers each frame twice from one shared buffer
+        ConnectionListener twice = new ConnectionListener() {
+            @Override
+            public void onOpen(Connection connection) {
+            }
+
+            @Override
+            public void onFrame(Connection connection, byte[] payload) {
+                SharedFrame frame = SharedFrame.of(payload);
+                sent.set(frame);
+                connection.send(frame.retain());
+                connection.send(frame);
+            }
+
+            @Override
+            public void onClose(Connection connection) {
+            }
+        };
+        NioServer shared = new NioServer(1, twice, handlers);
+        shared.bind(0);
+        try (Socket socket = new Socket("localhost", shared.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            out.writeInt(4);
+            out.writeInt(42);
+            out.flush();
+
+            for (int i = 0; i < 2; i++) {
+                assertEquals(4, in.readInt());
+                assertEquals(42, in.readInt(), "Every send of a shared frame should arrive whole.");
+            }
+            for (int i = 0; i < 100 && sent.get().references() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, sent.get().references(), "The frame should be released once written.");
+        } finally {
+            shared.close();
+        }
+    }
+
+    @Test
+    void testFrameQueuedAfterPartialWriteIsSent() throws Exception {
+        int frames = 128;
+        byte[] payload = new byte[60 * 1024];
+        AtomicBoolean answered = new AtomicBoolean();
+        // Floods a client that is not reading, then answers once everything is written.
+        // Callbacks run inline on the event loop, so the answer is queued from inside the
+        // loop's write handling, after the socket has filled up and been written in parts.
+        ConnectionListener flood = new ConnectionListener() {
+            @Override
+            public void onOpen(Connection connection) {
+                for (int i = 0; i < frames; i++) {
+                    connection.send(payload);
+                }
+            }
+
+            @Override
+            public void onFrame(Connection connection, byte[] frame) {
+            }
+
+            @Override
+            public void onDrained(Connection connection) {
+                if (answered.compareAndSet(false, true)) {
+                    connection.send(new byte[] {1, 2, 3});
+                }
+            }
+
+            @Override
+            public void onClose(Connection connection) {
+            }
+        };
+        NioServer inline = new NioServer(1, flood, Runnable::run);
+        inline.bind(0);
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(16 * 1024);
+            socket.connect(new InetSocketAddress("localhost", inline.getPort()));
+            socket.setSoTimeout(5000);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            Thread.sleep(200); // Let the server fill the socket
+
+            byte[] received = new byte[payload.length];
+            for (int i = 0; i < frames; i++) {
+                assertEquals(payload.length, in.readInt());
+                in.readFully(received);
+            }
+            assertEquals(3, in.readInt(), "A frame queued by the loop itself should not wait for more I/O.");
+            in.readFully(new byte[3]);
+        } finally {
+            inline.close();
+        }
+    }
+
+    @Test
+    void testFrameLargerThanPooledBuffer() throws Exception {
+        byte[] payload = new byte[NioServer.BUFFER_SIZE * 3];
+        Arrays.fill(payload, (byte) 7);
+        payload[payload.length - 1] = 9;
+
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.flush();
+
+            assertEquals(payload.length, in.readInt());
+            byte[] echoed = new byte[payload.length];
+            in.readFully(echoed);
+            assertArrayEquals(payload, echoed, "Large frames should be reassembled across reads.");
+        }
+    }
+
+    @Test
+    void testInvalidFrameLengthClosesConnection() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(NioServer.MAX_FRAME_BYTES + 1);
+            out.flush();
+
+            assertEquals(-1, socket.getInputStream().read(), "Server should close a connection sending bad frames.");
+        }
+    }
+
+    @Test
+    void testBufferPoolReusesBuffers() {
+        BufferPool pool = new BufferPool(128, 1);
+        ByteBuffer first = pool.acquire();
+        assertTrue(first.isDirect());
+        first.putInt(42);
+        pool.release(first);
+        pool.release(ByteBuffer.allocate(128)); // Not pooled: heap buffer
+
+        ByteBuffer second = pool.acquire();
+        assertSame(first, second, "A released buffer should be handed out again.");
+        assertEquals(0, second.position(), "Reused buffers should be cleared.");
+        assertEquals(0, pool.available());
+    }
+}
@@ -0,0 +1,129 @@
+package Network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import model.PokerInfo;
+import network.GameProtocol;
+import network.OutboundQueue;
+import network.OutboundQueue.Policy;
+import network.SharedFrame;
+import network.StateEncoder;
+
+class OutboundQueueTest {
+
+    private static PokerInfo stateWithBet(int ante) {
+        PokerInfo info = new PokerInfo();
+        info.setAnteBet(ante);
+        return info;
+    }
+
+    // Writes the next message as a writer would and returns its payload
+    private static byte[] write(OutboundQueue queue, StateEncoder encoder) {
+        SharedFrame frame = queue.poll().frame(encoder);
+        ByteBuffer view = frame.view();
+        byte[] payload = new byte[view.getInt()];
+        view.get(payload);
+        frame.release();
+        return payload;
+    }
+
+    @Test
+    void testDropOldestKeepsNewestMessages() throws Exception {
+        OutboundQueue queue = new OutboundQueue(2, Policy.DROP_OLDEST);
+        assertTrue(queue.offer(GameProtocol.encodeSeat(1)));
+        assertTrue(queue.offer(GameProtocol.encodePlay(5)));
+        assertTrue(queue.offer(GameProtocol.encodePlay(10)), "A full queue should make room.");
+
+        assertEquals(2, queue.depth());
+        assertEquals(1, queue.droppedCount());
+        StateEncoder encoder = new StateEncoder();
+        assertEquals(5, GameProtocol.decode(write(queue, encoder)).getPlayBet(), "The oldest should go.");
+        assertEquals(10, GameProtocol.decode(write(queue, encoder)).getPlayBet());
+    }
+
+    @Test
+    void testCoalesceReplacesSupersededUpdates() throws Exception {
+        OutboundQueue queue = new OutboundQueue(3, Policy.COALESCE);
+        queue.offer(GameProtocol.encodeSeat(1));
+        queue.offerState(stateWithBet(5), false);
+        queue.offerState(stateWithBet(10), false);
+        assertTrue(queue.offerState(stateWithBet(15), true));
+
+        assertEquals(2, queue.depth(), "Queued updates should give way to the newer one.");
+        assertEquals(2, queue.droppedCount());
+        StateEncoder encoder = new StateEncoder(true);
+        assertEquals(GameProtocol.SEAT, GameProtocol.type(write(queue, encoder)), "Frames are never coalesced.");
+        byte[] update = write(queue, encoder);
+        assertEquals(GameProtocol.RESULT, GameProtocol.type(update));
+        assertEquals(15, GameProtocol.decode(update).getAnteBet(), "The newest state should be sent.");
+    }
+
+    @Test
+    void testFullQueueAsksForDisconnect() {
+        OutboundQueue disconnect = new OutboundQueue(1, Policy.DISCONNECT);
+        assertTrue(disconnect.offerState(stateWithBet(5), false));
+        assertFalse(disconnect.offerState(stateWithBet(10), false), "A full queue should give up on the client.");
+
+        OutboundQueue coalesce = new OutboundQueue(1, Policy.COALESCE);
+        coalesce.offerState(stateWithBet(5), true);
+        assertFalse(coalesce.offerState(stateWithBet(10), false),
+                "Coalescing should give up when nothing queued can be replaced.");
+    }
+
+    @Test
+    void testQueuedStateIsCopied() throws Exception {
+        OutboundQueue queue = new OutboundQueue(4, Policy.DISCONNECT);
+        PokerInfo info = stateWithBet(5);
+        queue.offerState(info, false);
+        info.setAnteBet(25);
+
+        byte[] payload = write(queue, new StateEncoder());
+        assertEquals(5, GameProtocol.decode(payload).getAnteBet(),
+                "Later changes by the game should not leak into a queued update.");
+    }
+
+    @Test
+    void testResyncIsAnsweredInOrder() throws Exception {
+        OutboundQueue queue = new OutboundQueue(4, Policy.COALESCE);
+        queue.offerState(stateWithBet(5), false);
+        assertTrue(queue.offerResync());
+        queue.offerState(stateWithBet(10), false);
+
+        StateEncoder encoder = new StateEncoder(true);
+        assertEquals(GameProtocol.STATE, GameProtocol.type(write(queue, encoder)));
+        byte[] resync = write(queue, encoder);
+        assertEquals(GameProtocol.STATE, GameProtocol.type(resync), "A resync should be answered with a snapshot.");
+        assertEquals(5, GameProtocol.decode(resync).getAnteBet(), "The snapshot should hold what was last sent.");
+        assertEquals(GameProtocol.DELTA, GameProtocol.type(write(queue, encoder)));
+    }
+
+    @Test
+    void testMetricsAndClose() throws Exception {
+        OutboundQueue queue = new OutboundQueue(8, Policy.DISCONNECT);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(GameProtocol.encodePlay(i));
+        }
+        queue.poll();
+        assertEquals(4, queue.depth());
+        assertEquals(5, queue.highWaterMark());
+        assertEquals(0, queue.droppedCount());
+
+        OutboundQueue idle = new OutboundQueue(8, Policy.DISCONNECT);
+        CompletableFuture<OutboundQueue.Message> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return idle.take();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        idle.close();
+        assertNull(taken.get(5, TimeUnit.SECONDS), "Closing should release a waiting writer.");
+        assertFalse(idle.offer(GameProtocol.encodeFold()), "A closed queue should reject messages.");
+    }
+}
@@ -0,0 +1,130 @@
+package Network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import model.Card;
+import model.Hand;
+import model.PokerInfo;
+import network.GameProtocol;
+import network.SharedFrame;
+import network.StateEncoder;
+
+class StateEncoderTest {
+
+    private static PokerInfo dealtState() {
+        PokerInfo info = new PokerInfo();
+        info.setAnteBet(25);
+        info.setPairPlusBet(5);
+        info.setGameMessage("Cards dealt. Play or fold?");
+        info.setPlayerHand(Hand.of(Card.of('H', 14), Card.of('H', 13), Card.of('H', 12)));
+        info.setOpponentHand(Hand.of(Card.of('C', 2), Card.of('D', 7), Card.of('S', 9)));
+        info.setDealerHand(Hand.of(Card.of('S', 14), Card.of('D', 14), Card.of('C', 3)));
+        return info;
+    }
+
+    // Applies an update to a client's state the way a client would
+    private static PokerInfo apply(byte[] payload, PokerInfo state) throws ProtocolException {
+        if (GameProtocol.type(payload) == GameProtocol.DELTA) {
+            GameProtocol.applyDelta(payload, state);
+            return state;
+        }
+        return GameProtocol.decode(payload);
+    }
+
+    @Test
+    void testSnapshotThenDeltasRebuildState() throws ProtocolException {
+        StateEncoder encoder = new StateEncoder(true);
+        PokerInfo server = dealtState();
+
+        byte[] first = encoder.encode(server, false);
+        assertEquals(GameProtocol.STATE, GameProtocol.type(first), "The first update should be a snapshot.");
+        PokerInfo client = apply(first, null);
+
+        server.setPlayBet(25);
+        server.setGameMessage("Player 1 plays.");
+        byte[] play = encoder.encode(server, false);
+        assertEquals(GameProtocol.DELTA, GameProtocol.type(play));
+        client = apply(play, client);
+
+        server.setDealerCardsHidden(false);
+        server.setTotalWinnings(-130);
+        byte[] result = encoder.encode(server, true);
+        int mask = GameProtocol.applyDelta(result, client);
+        assertTrue((mask & GameProtocol.SETTLED) != 0, "A result delta should be marked settled.");
+
+        assertEquals(25, client.getPlayBet());
+        assertEquals(-130, client.getTotalWinnings());
+        assertEquals("Player 1 plays.", client.getGameMessage());
+        assertFalse(client.isDealerCardsHidden());
+        assertEquals(server.getDealerHand(), client.getDealerHand(), "Revealed dealer cards should arrive.");
+        assertEquals(server.getPlayerHand(), client.getPlayerHand());
+        assertEquals(server.getOpponentHand(), client.getOpponentHand());
+    }
+
+    @Test
+    void testDeltaCarriesOnlyChangedFields() throws ProtocolException {
+        StateEncoder encoder = new StateEncoder(true);
+        PokerInfo server = dealtState();
+        int snapshot = encoder.encode(server, false).length;
+
+        server.setCurrentTurn(2);
+        byte[] delta = encoder.encode(server, false);
+        assertEquals(4, delta.length, "A turn change should take type, sequence, mask and turn.");
+        assertTrue(delta.length * 10 < snapshot);
+
+        PokerInfo client = dealtState();
+        assertEquals(GameProtocol.TURN_CHANGED, GameProtocol.applyDelta(delta, client));
+        assertEquals(2, client.getCurrentTurn());
+    }
+
+    @Test
+    void testHiddenDealerCardsAreNotSentInDeltas() throws ProtocolException {
+        StateEncoder encoder = new StateEncoder(true);
+        PokerInfo server = new PokerInfo();
+        encoder.encode(server, false);
+
+        server.setDealerHand(Hand.of(Card.of('S', 14), Card.of('D', 14), Card.of('C', 3)));
+        byte[] delta = encoder.encode(server, false);
+        assertEquals(0, GameProtocol.changedFields(new PokerInfo(), server),
+                "Dealing hidden dealer cards should change nothing the client sees.");
+        PokerInfo client = new PokerInfo();
+        GameProtocol.applyDelta(delta, client);
+        assertTrue(client.getDealerHand().isEmpty());
+    }
+
+    @Test
+    void testUpdatesAreNumberedAndResyncSendsSnapshot() throws ProtocolException {
+        StateEncoder encoder = new StateEncoder(true);
+        assertNull(encoder.resync(), "Nothing needs resending before the first update.");
+        PokerInfo info = dealtState();
+        assertEquals(1, GameProtocol.sequence(encoder.encode(info, false)));
+        info.setPlayBet(25);
+        assertEquals(2, GameProtocol.sequence(encoder.encode(info, true)));
+
+        SharedFrame resync = encoder.resync();
+        ByteBuffer view = resync.view();
+        byte[] snapshot = new byte[view.getInt()];
+        view.get(snapshot);
+        resync.release();
+        assertEquals(GameProtocol.RESULT, GameProtocol.type(snapshot), "A resync should resend the last update whole.");
+        assertEquals(3, GameProtocol.sequence(snapshot), "A resync should not restart the numbering.");
+        PokerInfo client = GameProtocol.decode(snapshot);
+        assertEquals(25, client.getPlayBet());
+
+        info.setTotalWinnings(50);
+        byte[] next = encoder.encode(info, false);
+        assertEquals(GameProtocol.DELTA, GameProtocol.type(next), "Deltas should follow the resent snapshot.");
+        assertEquals(4, GameProtocol.sequence(next));
+        GameProtocol.applyDelta(next, client);
+        assertEquals(50, client.getTotalWinnings());
+
+        StateEncoder snapshotsOnly = new StateEncoder(false);
+        snapshotsOnly.encode(info, false);
+        assertEquals(GameProtocol.STATE, GameProtocol.type(snapshotsOnly.encode(info, false)));
+    }
+}
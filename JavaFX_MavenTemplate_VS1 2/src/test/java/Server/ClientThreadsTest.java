@@ -0,0 +1,52 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Test;
+
+import logging.Log;
+import server.ClientThreads;
+
+class ClientThreadsTest {
+
+    // Thread.isVirtual(), looked up reflectively as it only exists from Java 21
+    private static boolean isVirtual(Thread thread) throws Exception {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    void testPlatformThreadsWhenNotAsked() throws Exception {
+        Thread thread = ClientThreads.create(false).newThread(() -> { });
+        assertFalse(isVirtual(thread), "Platform threads should be used unless asked for virtual ones.");
+        assertTrue(thread.getName().startsWith("client-"));
+    }
+
+    @Test
+    void testVirtualThreadsOrFallback() throws Exception {
+        ThreadFactory factory = ClientThreads.create(true);
+        Thread thread = factory.newThread(() -> { });
+        if (Runtime.version().feature() >= 21) {
+            assertTrue(isVirtual(thread), "Java 21 and newer should give virtual threads.");
+            return;
+        }
+        assertFalse(isVirtual(thread), "Older runtimes should fall back to platform threads.");
+        assertTrue(thread.getName().startsWith("client-"));
+
+        // The build sends log output to a file rather than the console
+        String sink = System.getProperty("poker.log.file");
+        if (sink != null) {
+            assertTrue(Log.flush());
+            assertTrue(Files.readString(Path.of(sink), StandardCharsets.UTF_8)
+                    .contains("Virtual threads need Java 21 or newer"), "The fallback should be logged as a warning.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import server.GameEventLog;
+
+class GameEventLogTest {
+
+    @Test
+    void testReadsOnlyNewEvents() {
+        GameEventLog log = new GameEventLog(8);
+        log.onGameEvent("a");
+        log.onGameEvent("b");
+        List<String> seen = new ArrayList<>();
+        long position = log.readSince(0, seen);
+        assertEquals(List.of("a", "b"), seen);
+
+        seen.clear();
+        log.onGameEvent("c");
+        position = log.readSince(position, seen);
+        assertEquals(List.of("c"), seen, "Events already read should not be read again.");
+
+        seen.clear();
+        assertEquals(position, log.readSince(position, seen));
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    void testKeepsOnlyTheNewestEvents() {
+        GameEventLog log = new GameEventLog(4);
+        for (int i = 0; i < 10; i++) {
+            log.onGameEvent("event " + i);
+        }
+        List<String> seen = new ArrayList<>();
+        assertEquals(10, log.readSince(0, seen));
+        assertEquals(List.of("event 6", "event 7", "event 8", "event 9"), seen,
+                "A slow reader should get the newest events, oldest first.");
+        assertEquals(10, log.getCount());
+    }
+
+    @Test
+    void testConcurrentWritersLoseNothingWithinCapacity() throws Exception {
+        GameEventLog log = new GameEventLog(4000);
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        for (int w = 0; w < 4; w++) {
+            int writer = w;
+            writers.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    log.onGameEvent(writer + ":" + i);
+                }
+            });
+        }
+        writers.shutdown();
+        assertTrue(writers.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<String> seen = new ArrayList<>();
+        log.readSince(0, seen);
+        assertEquals(4000, seen.size());
+        assertEquals(4000, seen.stream().distinct().count(), "No event should overwrite another.");
+    }
+}
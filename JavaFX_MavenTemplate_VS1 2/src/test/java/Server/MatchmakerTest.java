@@ -0,0 +1,116 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import controller.ClientHandler;
+import server.Table;
+import server.TableManager;
+
+class MatchmakerTest {
+
+    private final ExecutorService scheduler = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static ClientHandler newPlayer() {
+        return new ClientHandler((Socket) null, null);
+    }
+
+    // Waits until every action queued so far at a table has run
+    private static void drain(Table table) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        table.submit(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPlayersAreMatchedByStake() {
+        TableManager manager = new TableManager(null, 10, scheduler);
+        ClientHandler low = newPlayer();
+        ClientHandler high = newPlayer();
+        Table lowTable = manager.seat(low, 5);
+        Table highTable = manager.seat(high, 100);
+
+        assertNotSame(lowTable, highTable, "Players at different stakes should not be paired.");
+        assertEquals(1, manager.getMatchmaker().getWaitingTables(5));
+        assertSame(highTable, manager.seat(newPlayer(), 100), "A player should join someone at the same stake.");
+        assertEquals(0, manager.getMatchmaker().getWaitingTables(100));
+        assertEquals(100, highTable.getStake());
+    }
+
+    @Test
+    void testMatchedPlayersAreToldOnce() throws Exception {
+        TableManager manager = new TableManager(null, 10, scheduler);
+        ClientHandler first = newPlayer();
+        Table table = manager.seat(first);
+        drain(table);
+        assertEquals(0, first.getOutboundQueue().depth(), "A waiting player should hear nothing yet.");
+
+        ClientHandler second = newPlayer();
+        manager.seat(second);
+        drain(table);
+        assertEquals(1, first.getOutboundQueue().depth(), "Both players should be sent their seat when matched.");
+        assertEquals(1, second.getOutboundQueue().depth());
+
+        manager.leave(second);
+        assertSame(table, manager.seat(newPlayer()), "A player left alone should be matched again.");
+        drain(table);
+        assertEquals(1, first.getOutboundQueue().depth(), "A player already seated should not be told again.");
+    }
+
+    @Test
+    void testEmptiedTableIsDroppedByNextArrival() {
+        TableManager manager = new TableManager(null, 10, scheduler);
+        ClientHandler gone = newPlayer();
+        Table emptied = manager.seat(gone, 5);
+        manager.leave(gone);
+        assertTrue(emptied.isClosed());
+
+        Table table = manager.seat(newPlayer(), 5);
+        assertNotSame(emptied, table, "A closed table should not take players.");
+        assertSame(table, manager.seat(newPlayer(), 5), "The next arrival should join the new table.");
+        assertEquals(0, manager.getMatchmaker().getWaitingTables(5), "The closed table should be dropped.");
+        assertEquals(1, manager.getTableCount());
+    }
+
+    @Test
+    void testBurstOfArrivalsIsPairedQuickly() throws Exception {
+        int players = 20_000;
+        TableManager manager = new TableManager(null, players, scheduler);
+        ExecutorService arrivals = Executors.newFixedThreadPool(8);
+        CountDownLatch seated = new CountDownLatch(players);
+        long start = System.nanoTime();
+        for (int i = 0; i < players; i++) {
+            int stake = i % 4;
+            arrivals.execute(() -> {
+                if (manager.seat(newPlayer(), stake) != null) {
+                    seated.countDown();
+                }
+            });
+        }
+        assertTrue(seated.await(30, TimeUnit.SECONDS), "Every arrival should be seated.");
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        arrivals.shutdown();
+
+        assertEquals(players, manager.getPlayerCount());
+        int waiting = 0;
+        for (int stake = 0; stake < 4; stake++) {
+            waiting += manager.getMatchmaker().getWaitingTables(stake);
+        }
+        // Arrivals racing on an empty queue may each open a table, leaving a few half full
+        assertTrue(waiting <= 4 * 8, "Almost every player should have an opponent, " + waiting + " tables wait.");
+        assertTrue(millis < 10_000, "Seating " + players + " players took " + millis + " ms.");
+    }
+}
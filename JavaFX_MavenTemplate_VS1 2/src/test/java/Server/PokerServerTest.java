@@ -0,0 +1,58 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import server.PokerServer;
+import server.ServerListener;
+
+class PokerServerTest {
+
+    @Test
+    void testRunsHeadlessAndNotifiesListeners() {
+        PokerServer server = new PokerServer();
+        List<String> events = new CopyOnWriteArrayList<>();
+        ServerListener listener = events::add;
+        server.addListener(listener);
+
+        server.startNioServer(0); // Any free port; no JavaFX toolkit is running
+        try {
+            assertTrue(server.isRunning(), "The server should start without the UI.");
+            assertTrue(events.get(0).startsWith("NIO server started on port: "),
+                    "Listeners should see the startup event.");
+        } finally {
+            server.stopServer();
+        }
+        assertFalse(server.isRunning());
+        assertEquals("Server stopped.", events.get(events.size() - 1));
+
+        server.removeListener(listener);
+        server.logGameEvent("Unseen");
+        assertFalse(events.contains("Unseen"), "A removed listener should not be notified.");
+    }
+
+    @Test
+    void testBlockingServerStopsOnce() throws Exception {
+        PokerServer server = new PokerServer();
+        List<String> events = new CopyOnWriteArrayList<>();
+        server.addListener(events::add);
+        Thread accepting = new Thread(() -> server.startServer(0));
+        accepting.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!server.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(server.isRunning(), "The blocking server should start.");
+
+        server.stopServer(); // As a shutdown hook does; the accept loop then stops the server too
+        accepting.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(accepting.isAlive(), "The accept loop should end once the server stops.");
+        assertEquals(1, events.stream().filter("Server stopped."::equals).count(),
+                "Stopping should happen once.");
+    }
+}
@@ -0,0 +1,53 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import server.ServerMain;
+
+class ServerMainTest {
+
+    @TempDir
+    Path dir;
+
+    private static String read(Path file) throws IOException {
+        return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8) : "";
+    }
+
+    @Test
+    void testShutdownLogsServerStopping() throws Exception {
+        Path log = dir.resolve("server.log");
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process server = new ProcessBuilder(java, "-cp", classPath,
+                "-Dpoker.log.console=false", "-Dpoker.log.file=" + log,
+                ServerMain.class.getName(), "--port", "0")
+                .redirectErrorStream(true)
+                .redirectOutput(new File(dir.toFile(), "server.out"))
+                .start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+            while (!read(log).contains("Server started") && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(read(log).contains("Server started"), "The server should start: " + read(log));
+
+            server.destroy(); // SIGTERM, which runs the shutdown hooks
+            assertTrue(server.waitFor(20, TimeUnit.SECONDS), "The server should exit once stopped.");
+            assertTrue(read(log).contains("Server stopped."),
+                    "What the server logs while stopping should reach the log: " + read(log));
+        } finally {
+            server.destroyForcibly();
+        }
+    }
+}
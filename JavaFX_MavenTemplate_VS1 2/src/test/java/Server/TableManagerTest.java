@@ -0,0 +1,101 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import controller.ClientHandler;
+import server.Table;
+import server.TableManager;
+
+class TableManagerTest {
+
+    private static ClientHandler newPlayer() {
+        return new ClientHandler((Socket) null, null);
+    }
+
+    @Test
+    void testPlayersFillTablesInPairs() {
+        TableManager manager = new TableManager(null, 10);
+        ClientHandler[] players = new ClientHandler[5];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = newPlayer();
+            assertNotNull(manager.seat(players[i]));
+        }
+
+        assertEquals(3, manager.getTableCount(), "Five players should need three tables.");
+        assertEquals(5, manager.getPlayerCount());
+        assertSame(players[0].getTable(), players[1].getTable(), "The first two players should share a table.");
+        assertNotSame(players[1].getTable(), players[2].getTable());
+        assertEquals(1, players[2].getPlayerNumber());
+        assertEquals(2, players[3].getPlayerNumber());
+        assertFalse(players[4].getTable().isGameReady(), "The last table should still wait for a player.");
+    }
+
+    @Test
+    void testLeavingFreesSeatAndEmptyTableCloses() {
+        TableManager manager = new TableManager(null, 10);
+        ClientHandler first = newPlayer();
+        ClientHandler second = newPlayer();
+        Table table = manager.seat(first);
+        manager.seat(second);
+
+        manager.leave(first);
+        assertFalse(table.isGameReady());
+        ClientHandler arrival = newPlayer();
+        assertSame(table, manager.seat(arrival), "An arrival should take the freed seat.");
+        assertEquals(1, arrival.getPlayerNumber(), "The arrival should get the freed seat's number.");
+
+        manager.leave(second);
+        manager.leave(arrival);
+        assertTrue(table.isClosed(), "A table should close once empty.");
+        assertEquals(0, manager.getTableCount());
+        assertNotSame(table, manager.seat(newPlayer()), "A closed table should never be reused.");
+    }
+
+    @Test
+    void testTableLimitRejectsArrivals() {
+        TableManager manager = new TableManager(null, 1);
+        assertNotNull(manager.seat(newPlayer()));
+        assertNotNull(manager.seat(newPlayer()));
+        assertNull(manager.seat(newPlayer()), "No table should open past the limit.");
+    }
+
+    @Test
+    void testConcurrentArrivalsAreSeatedInFullTables() throws Exception {
+        int players = 2000;
+        TableManager manager = new TableManager(null, players);
+        Map<Table, Integer> seated = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < players; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                Table table = manager.seat(newPlayer());
+                seated.merge(table, 1, Integer::sum);
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(players, manager.getPlayerCount());
+        // Arrivals racing on an empty queue may each open a table, leaving a few half full
+        assertTrue(manager.getTableCount() <= players / 2 + 8, "Tables should be filled before more open.");
+        for (int count : seated.values()) {
+            assertTrue(count <= Table.SEATS, "No table should be overfilled.");
+        }
+    }
+}
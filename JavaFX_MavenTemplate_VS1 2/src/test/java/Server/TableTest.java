@@ -0,0 +1,166 @@
+package Server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import controller.ClientHandler;
+import model.Card;
+import model.Hand;
+import model.PokerInfo;
+import network.Broadcast;
+import server.Table;
+import server.TableManager;
+
+class TableTest {
+
+    private final ExecutorService scheduler = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    // Waits until every action queued so far at a table has run
+    private static void drain(Table table) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        table.submit(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS), "The table's actions should finish.");
+    }
+
+    @Test
+    void testActionsRunOneAtATimeInOrder() throws Exception {
+        Table table = new Table(1, null, scheduler);
+        List<Integer> order = new ArrayList<>(); // Unsynchronized: only the mailbox touches it
+        int[] running = new int[1];
+        boolean[] overlapped = new boolean[1];
+
+        for (int i = 0; i < 1000; i++) {
+            int action = i;
+            table.submit(() -> {
+                if (++running[0] > 1) {
+                    overlapped[0] = true;
+                }
+                order.add(action);
+                running[0]--;
+            });
+        }
+        drain(table);
+
+        assertFalse(overlapped[0], "Actions at one table should never overlap.");
+        assertEquals(1000, order.size());
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i, order.get(i), "Actions should run in submission order.");
+        }
+    }
+
+    @Test
+    void testTablesRunInParallel() throws Exception {
+        Table first = new Table(1, null, scheduler);
+        Table second = new Table(2, null, scheduler);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(2);
+
+        for (Table table : new Table[] {first, second}) {
+            table.submit(() -> {
+                bothRunning.countDown();
+                try {
+                    // Only returns if the other table's action runs at the same time
+                    if (bothRunning.await(10, TimeUnit.SECONDS)) {
+                        finished.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        assertTrue(finished.await(10, TimeUnit.SECONDS), "Two tables should not wait on each other.");
+    }
+
+    @Test
+    void testTurnStateLivesInMailbox() throws Exception {
+        Table table = new Table(1, null, scheduler);
+        table.submit(() -> {
+            table.incrementReadyPlayers();
+            table.incrementReadyPlayers();
+        });
+        drain(table);
+        assertEquals(2, table.getReadyPlayers(), "State written in the mailbox should be visible outside it.");
+
+        table.submit(table::switchTurn);
+        drain(table);
+        assertEquals(1, table.getCurrentTurnPlayer(), "Turns should not switch at a table missing a player.");
+    }
+
+    @Test
+    void testReplacementOpponentStartsAFreshRound() throws Exception {
+        TableManager manager = new TableManager(null, 10, scheduler);
+        ClientHandler staying = new ClientHandler((Socket) null, null);
+        Table table = manager.seat(staying);
+        manager.seat(new ClientHandler((Socket) null, null));
+        drain(table);
+
+        // A round cut short: one player has acted, the turn has passed and hands are dealt
+        table.submit(() -> {
+            table.incrementReadyPlayers();
+            table.switchTurn();
+            staying.getPlayer().setHand(List.of(new Card('S', 12), new Card('S', 13), new Card('S', 14)));
+        });
+        drain(table);
+        assertEquals(2, table.getCurrentTurnPlayer());
+
+        manager.leave(table.getOpponentHandler(staying));
+        assertSame(table, manager.seat(new ClientHandler((Socket) null, null)), "The open seat should be filled.");
+        drain(table);
+
+        assertEquals(0, table.getReadyPlayers(), "The new opponent should not inherit the old round's actions.");
+        assertEquals(1, table.getCurrentTurnPlayer(), "The new round should start with Player 1.");
+        assertSame(Hand.EMPTY, staying.getPlayerHand(), "The old round's hand should be cleared.");
+    }
+
+    @Test
+    void testSeatingDoesNotWaitOnSends() throws Exception {
+        TableManager manager = new TableManager(null, 10, scheduler);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ClientHandler slow = new ClientHandler((Socket) null, null) {
+            @Override
+            public void sendBroadcast(Broadcast update) {
+                sending.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS); // A send stuck on a full socket
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        ClientHandler other = new ClientHandler((Socket) null, null);
+        Table table = manager.seat(slow);
+        manager.seat(other);
+        drain(table);
+
+        table.submit(() -> table.broadcastToPlayers(new PokerInfo()));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        try {
+            CountDownLatch left = new CountDownLatch(1);
+            scheduler.execute(() -> {
+                manager.leave(other);
+                left.countDown();
+            });
+            assertTrue(left.await(5, TimeUnit.SECONDS), "A player should leave while a send is still running.");
+            assertEquals(1, table.getPlayers().size());
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.CardCodec;
+import model.PackedHand;
+import simulation.MonteCarloSimulator;
+import simulation.PlayStrategy;
+import simulation.SimulationResult;
+
+class MonteCarloSimulatorTest {
+
+    @Test
+    void testSameSeedGivesSameResult() {
+        SimulationResult first = new MonteCarloSimulator(PlayStrategy.QUEEN_SIX_FOUR, 2, 7L).run(100_000, 1, 1);
+        SimulationResult second = new MonteCarloSimulator(PlayStrategy.QUEEN_SIX_FOUR, 2, 7L).run(100_000, 1, 1);
+
+        assertEquals(100_000, first.getHands());
+        assertEquals(first.getMeanNet(), second.getMeanNet(), "A seeded run should be reproducible.");
+        assertEquals(first.getWinRate(), second.getWinRate());
+    }
+
+    @Test
+    void testAlwaysPlayNeverFolds() {
+        SimulationResult result = new MonteCarloSimulator(PlayStrategy.ALWAYS_PLAY, 1, 11L).run(50_000, 1, 0);
+        assertEquals(0.0, result.getFoldRate(), "Always-play strategy should never fold.");
+        assertEquals(1.0, result.getWinRate() + result.getTieRate() + result.getLossRate(), 1e-12);
+    }
+
+    @Test
+    void testPairFrequencyIsCloseToExact() {
+        SimulationResult result = new MonteCarloSimulator(PlayStrategy.ALWAYS_PLAY, 2, 3L).run(400_000, 1, 1);
+        assertEquals(3744.0 / 22100, result.getPairPlusFrequency(5), 0.005, "Pair frequency should be near 16.9%.");
+        assertTrue(result.getConfidenceHalfWidth() > 0, "Confidence interval should have a width.");
+    }
+
+    @Test
+    void testQueenSixFourThreshold() {
+        int queenSixFour = PackedHand.of(CardCodec.encode('C', 12), CardCodec.encode('D', 6), CardCodec.encode('H', 4));
+        int queenSixThree = PackedHand.of(CardCodec.encode('C', 12), CardCodec.encode('D', 6), CardCodec.encode('H', 3));
+        int lowPair = PackedHand.of(CardCodec.encode('C', 2), CardCodec.encode('D', 2), CardCodec.encode('H', 5));
+
+        assertTrue(PlayStrategy.QUEEN_SIX_FOUR.shouldPlay(queenSixFour), "Queen-6-4 should be played.");
+        assertFalse(PlayStrategy.QUEEN_SIX_FOUR.shouldPlay(queenSixThree), "Queen-6-3 should be folded.");
+        assertTrue(PlayStrategy.QUEEN_SIX_FOUR.shouldPlay(lowPair), "Any pair should be played.");
+    }
+}
@@ -1,8 +1,11 @@
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.net.Socket;
 
 import model.PokerInfo;
+import network.GameProtocol;
 
 public class Client {
     private static final String SERVER_ADDRESS = "localhost"; // Change if needed
@@ -10,20 +13,18 @@ public class Client {
 
     public static void main(String[] args) {
         try (Socket socket = new Socket(SERVER_ADDRESS, SERVER_PORT);
-             ObjectOutputStream output = new ObjectOutputStream(socket.getOutputStream());
-             ObjectInputStream input = new ObjectInputStream(socket.getInputStream())) {
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+             DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
 
             System.out.println("Connected to Poker Server!");
+            System.out.println("Seated as Player " + GameProtocol.decodeSeat(GameProtocol.readFrame(input)));
 
-            // Example: Sending PokerInfo to the server
-            PokerInfo info = new PokerInfo();
-            info.setAnteBet(10);
-            info.setPairPlusBet(5);
-            output.writeObject(info);
+            // Example: Sending a deal to the server
+            GameProtocol.writeFrame(output, GameProtocol.encodeDeal(10, 5));
             output.flush();
 
             // Receive response from server
-            PokerInfo response = (PokerInfo) input.readObject();
+            PokerInfo response = GameProtocol.decodeState(GameProtocol.readFrame(input));
             System.out.println("Server Response: " + response.getGameMessage());
 
         } catch (Exception e) {
@@ -1,9 +1,11 @@
 package controllers;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
 import java.net.URL;
 import java.util.ArrayList;
@@ -23,6 +25,8 @@ import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import model.Card;
 import model.PokerInfo;
+import network.GameProtocol;
+import network.StateUpdate;
 
 /**
  * Handles all client-side game logic and UI updates for the Poker game.
@@ -30,9 +34,12 @@ import model.PokerInfo;
  */
 public class GamePlayController {
     private Socket socket;
-    private ObjectOutputStream output;
-    private ObjectInputStream input;
+    private DataOutputStream output;
+    private DataInputStream input;
     private int playerNumber;
+    private PokerInfo state; // The table as the server last described it; FX thread only
+    private int lastSequence; // Sequence number of the last update applied
+    private boolean awaitingSnapshot; // Set after asking the server to resend the table
     
     
     
@@ -100,11 +107,11 @@ public class GamePlayController {
     public void initializeGame(Socket socket) {
         try {
             this.socket = socket;
-            this.output = new ObjectOutputStream(socket.getOutputStream());
-            this.input = new ObjectInputStream(socket.getInputStream());
+            this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
 
             // Read player number assigned by the server
-            int playerNumber = input.readInt(); 
+            int playerNumber = GameProtocol.decodeSeat(GameProtocol.readFrame(input));
             System.out.println("Client received Player Number: " + playerNumber);
             
             // Start listening for game updates from the server
@@ -123,12 +130,12 @@ public class GamePlayController {
             try {
                 while (socket != null && !socket.isClosed()) {
                     try {
-                        PokerInfo info = (PokerInfo) input.readObject();
-                        Platform.runLater(() -> updateUI(info)); // Ensure UI updates run on the JavaFX thread
+                        StateUpdate update = GameProtocol.decodeUpdate(GameProtocol.readFrame(input));
+                        Platform.runLater(() -> updateUI(update)); // Ensure UI updates run on the JavaFX thread
                     } catch (EOFException e) {
                         System.err.println("Server closed the connection.");
                         break;
-                    } catch (IOException | ClassNotFoundException e) {
+                    } catch (IOException e) {
                         System.err.println("Error receiving data: " + e.getMessage());
                         break;
                     }
@@ -141,25 +148,57 @@ public class GamePlayController {
 
 
     /**
-     * Updates the UI with the latest game state received from the server.
+     * Applies an update from the server to the local game state and redraws what it changed.
+     * A snapshot redraws everything; a delta redraws only the labels and cards it touches.
+     * A delta that does not follow the last update is dropped, and the table is asked for again.
      *
-     * @param info The game state information received from the server.
+     * @param update The snapshot or delta received from the server.
      */
-    private void updateUI(PokerInfo info) {
-        if (info == null) return;
-
-        playerBetLabel.setText(String.format("Ante: $%d | Pair Plus: $%d | Play: $%d", 
-                        info.getAnteBet(), info.getPairPlusBet(), info.getPlayBet()));
-        playerWinningsLabel.setText("Total Winnings: $" + info.getTotalWinnings());
-        gameInfoLabel.setText(info.getGameMessage());
+    private void updateUI(StateUpdate update) {
+        if (update == null) return;
+        if (!update.isSnapshot()) {
+            if (awaitingSnapshot) {
+                return; // Taken against a state we never saw; the snapshot asked for replaces it
+            }
+            if (state == null || update.getSequence() != lastSequence + 1) {
+                System.err.println("Missed game updates: expected " + (lastSequence + 1)
+                        + " but received " + update.getSequence() + ".");
+                requestSnapshot();
+                return;
+            }
+        }
+        awaitingSnapshot = false;
+        boolean redrawAll = update.isSnapshot() || state == null;
+        state = update.applyTo(state);
+        lastSequence = update.getSequence();
+        PokerInfo info = state;
+
+        if (redrawAll || update.changed(GameProtocol.ANTE_CHANGED | GameProtocol.PAIR_PLUS_CHANGED
+                | GameProtocol.PLAY_CHANGED)) {
+            playerBetLabel.setText(String.format("Ante: $%d | Pair Plus: $%d | Play: $%d",
+                            info.getAnteBet(), info.getPairPlusBet(), info.getPlayBet()));
+        }
+        if (redrawAll || update.changed(GameProtocol.WINNINGS_CHANGED)) {
+            playerWinningsLabel.setText("Total Winnings: $" + info.getTotalWinnings());
+        }
+        if (redrawAll || update.changed(GameProtocol.MESSAGE_CHANGED)) {
+            gameInfoLabel.setText(info.getGameMessage());
+        }
 
-        updateCards(playerCardsBox, info.getPlayerHand());
-        updateCards(opponentCardsBox, info.getOpponentHand());
+        if (redrawAll || update.changed(GameProtocol.PLAYER_HAND_CHANGED)) {
+            updateCards(playerCardsBox, info.getPlayerHand());
+        }
+        if (redrawAll || update.changed(GameProtocol.OPPONENT_HAND_CHANGED)) {
+            updateCards(opponentCardsBox, info.getOpponentHand());
+        }
 
-        if (!info.isDealerCardsHidden()) {
-            updateCards(dealerCardsBox, info.getDealerHand());
-        } else {
-            showFaceDownCards(dealerCardsBox, 3);
+        // The dealer's cards turn over when the flags change and are redealt when the hand changes
+        if (redrawAll || update.changed(GameProtocol.FLAGS_CHANGED | GameProtocol.DEALER_HAND_CHANGED)) {
+            if (!info.isDealerCardsHidden()) {
+                updateCards(dealerCardsBox, info.getDealerHand());
+            } else {
+                showFaceDownCards(dealerCardsBox, 3);
+            }
         }
     }
 
@@ -267,8 +306,7 @@ public class GamePlayController {
             info.setAnteBet(Integer.parseInt(anteField.getText()));
             info.setPairPlusBet(Integer.parseInt(pairPlusField.getText()));
 
-            output.writeObject(info);
-            output.flush();
+            send(GameProtocol.encodeDeal(info.getAnteBet(), info.getPairPlusBet()));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -282,8 +320,7 @@ public class GamePlayController {
         try {
             PokerInfo info = new PokerInfo();
             info.setPlayBet(info.getAnteBet()); // The play bet matches the ante
-            output.writeObject(info);
-            output.flush();
+            send(GameProtocol.encodePlay(info.getPlayBet()));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -295,15 +332,34 @@ public class GamePlayController {
     @FXML
     private void handleFold() {
         try {
-            PokerInfo info = new PokerInfo();
-            info.setPlayerFolded(true);
-            output.writeObject(info);
-            output.flush();
+            send(GameProtocol.encodeFold());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Asks the server to resend the whole table, ignoring deltas until it arrives.
+     */
+    private void requestSnapshot() {
+        awaitingSnapshot = true;
+        try {
+            send(GameProtocol.encodeResync());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sends one message frame to the server.
+     *
+     * @param payload The message payload.
+     */
+    private void send(byte[] payload) throws IOException {
+        GameProtocol.writeFrame(output, payload);
+        output.flush();
+    }
+
     /**
      * Closes the application when the player chooses to exit.
      */
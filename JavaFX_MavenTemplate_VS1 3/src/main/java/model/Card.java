@@ -1,16 +1,25 @@
 package model;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Map;
 
+/**
+ * An immutable playing card.
+ * The 52 cards of a standard deck exist once each and are shared through Card.of, and cards
+ * received from the server resolve to the same shared instances.
+ */
 public class Card implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    // Suits in the order used to index the shared cards
+    private static final String SUIT_ORDER = "CDHS";
+
     // Represents the suit of the card (Clubs, Diamonds, Hearts, Spades)
-    private char suit; /* Valid values: ‘C’, ‘D’, ’S’, ‘H’ */
+    private final char suit; /* Valid values: ‘C’, ‘D’, ’S’, ‘H’ */
 
     // Represents the value of the card (2 to 14, where 11-14 correspond to Jack, Queen, King, Ace)
-    private int value;
+    private final int value;
 
     // Mapping of face card values (Jack, Queen, King, Ace) to their string equivalents
     private static final Map<Integer, String> FACE_VALUES = Map.of(
@@ -36,8 +45,53 @@ public class Card implements Serializable {
             11, "j"    // Jack
     );
 
+    // The shared instance of every card, indexed by suit then value
+    private static final Card[] CANONICAL = new Card[52];
+
+    static {
+        for (int suitIndex = 0; suitIndex < SUIT_ORDER.length(); suitIndex++) {
+            for (int value = 2; value <= 14; value++) {
+                CANONICAL[suitIndex * 13 + value - 2] = new Card(SUIT_ORDER.charAt(suitIndex), value);
+            }
+        }
+    }
+
+    /**
+     * Gets the shared instance of a card.
+     *
+     * @param suit the suit of the card ('C', 'D', 'H', 'S')
+     * @param value the value of the card (2 to 14, where 11-14 are face cards)
+     * @return the shared card with that suit and value
+     * @throws IllegalArgumentException if the suit or value is invalid
+     */
+    public static Card of(char suit, int value) {
+        int suitIndex = SUIT_ORDER.indexOf(suit);
+        if (suitIndex < 0) {
+            throw new IllegalArgumentException("Invalid suit. Must be 'C', 'D', 'H', or 'S'.");
+        }
+        if (value < 2 || value > 14) {
+            throw new IllegalArgumentException("Invalid value. Must be between 2 and 14.");
+        }
+        return CANONICAL[suitIndex * 13 + value - 2];
+    }
+
+    /**
+     * Gets the shared card for a one-byte card code, as sent by the server.
+     *
+     * @param code the card code: suit index (C, D, H, S) * 13 + value - 2
+     * @return the shared card with that code
+     * @throws IllegalArgumentException if the code is not between 0 and 51
+     */
+    public static Card ofCode(int code) {
+        if (code < 0 || code >= CANONICAL.length) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        return CANONICAL[code];
+    }
+
     /**
      * Constructor to initialize a card with a specific suit and value.
+     * Prefer Card.of, which returns the shared instance instead of a new copy.
      * 
      * @param suit the suit of the card ('C', 'D', 'H', 'S')
      * @param value the value of the card (2 to 14, where 11-14 are face cards)
@@ -106,6 +160,45 @@ public class Card implements Serializable {
         }
     }
 
+    /**
+     * Replaces a deserialized card with the shared instance of the same card.
+     *
+     * @return the shared card with this card's suit and value
+     * @throws ObjectStreamException never; declared as required for readResolve
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return of(suit, value);
+    }
+
+    /**
+     * Cards are equal when they have the same suit and value.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Card)) {
+            return false;
+        }
+        Card card = (Card) other;
+        return suit == card.suit && value == card.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return code();
+    }
+
+    /**
+     * Gets the one-byte code of this card, as sent over the network.
+     *
+     * @return suit index (C, D, H, S) * 13 + value - 2
+     */
+    public int code() {
+        return SUIT_ORDER.indexOf(suit) * 13 + value - 2;
+    }
+
     /**
      * Converts the card to a string representation (e.g., "Ace of Spades").
      * 
@@ -1,11 +1,8 @@
 package model;
 
-import java.io.*;
 import java.util.ArrayList;
 
-public class PokerInfo implements Serializable {
-    private static final long serialVersionUID = 1L; // Ensures compatibility during serialization
-
+public class PokerInfo {
     private int anteBet; // The player's ante bet
     private int pairPlusBet; // The player's Pair Plus bet
     private int playBet; // The player's play bet
@@ -23,9 +20,8 @@ public class PokerInfo implements Serializable {
     }
 
     // These lists store the player's and dealer's hands
-    // Marked as transient since ArrayLists containing objects may not serialize well by default
-    private transient ArrayList<Card> playerHand;
-    private transient ArrayList<Card> dealerHand;
+    private ArrayList<Card> playerHand;
+    private ArrayList<Card> dealerHand;
     
     private boolean dealerCardsHidden = true; // True when dealer's cards are hidden
     private ArrayList<Card> opponentHand = new ArrayList<>();
@@ -154,48 +150,4 @@ public class PokerInfo implements Serializable {
     public void setGameMessage(String gameMessage) {
         this.gameMessage = (gameMessage == null) ? "" : gameMessage;
     }
-
-    // ===== Custom Serialization and Deserialization Methods =====
-
-    /**
-     * Handles custom serialization to properly store the player's and dealer's hands.
-     * The hands are written separately since transient fields are not serialized by default.
-     */
-    private void writeObject(ObjectOutputStream out) throws IOException {
-        out.defaultWriteObject(); // Serialize all non-transient fields
-
-        // Write player hand size and cards
-        out.writeInt(playerHand.size());
-        for (Card card : playerHand) {
-            out.writeObject(card);
-        }
-
-        // Write dealer hand size and cards
-        out.writeInt(dealerHand.size());
-        for (Card card : dealerHand) {
-            out.writeObject(card);
-        }
-    }
-
-    /**
-     * Handles custom deserialization to reconstruct the player's and dealer's hands.
-     * This ensures that the transient fields are restored correctly when the object is read back.
-     */
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject(); // Deserialize all non-transient fields
-
-        // Read player hand
-        int playerHandSize = in.readInt();
-        playerHand = new ArrayList<>();
-        for (int i = 0; i < playerHandSize; i++) {
-            playerHand.add((Card) in.readObject());
-        }
-
-        // Read dealer hand
-        int dealerHandSize = in.readInt();
-        dealerHand = new ArrayList<>();
-        for (int i = 0; i < dealerHandSize; i++) {
-            dealerHand.add((Card) in.readObject());
-        }
-    }
 }
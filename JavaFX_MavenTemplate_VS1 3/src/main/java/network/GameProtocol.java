@@ -0,0 +1,294 @@
+package network;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import model.Card;
+import model.PokerInfo;
+
+/**
+ * The binary messages exchanged with the poker server; the same format as the server's
+ * GameProtocol. Every message travels in a frame: a four-byte big-endian payload length,
+ * then the payload, which starts with a one-byte message type. The client sends DEAL, PLAY,
+ * FOLD and RESYNC and receives SEAT, STATE, RESULT and DELTA. STATE and RESULT are snapshots
+ * of the table; a DELTA holds only the fields that changed since the update before it. All
+ * three carry a sequence number one higher than the update before. A client that misses an
+ * update sends RESYNC, and the server answers with a snapshot.
+ * Amounts are zigzag varints, cards are single-byte codes, hands are a count byte followed
+ * by their cards, and the game message is a length byte followed by UTF-8.
+ */
+public final class GameProtocol {
+    public static final byte SEAT = 1;
+    public static final byte DEAL = 2;
+    public static final byte PLAY = 3;
+    public static final byte FOLD = 4;
+    public static final byte STATE = 5;
+    public static final byte RESULT = 6;
+    public static final byte DELTA = 7;
+    public static final byte RESYNC = 8;
+
+    // Bits of a DELTA's mask: which table fields follow, in this order
+    public static final int FLAGS_CHANGED = 1;
+    public static final int TURN_CHANGED = 1 << 1;
+    public static final int ANTE_CHANGED = 1 << 2;
+    public static final int PAIR_PLUS_CHANGED = 1 << 3;
+    public static final int PLAY_CHANGED = 1 << 4;
+    public static final int WINNINGS_CHANGED = 1 << 5;
+    public static final int MESSAGE_CHANGED = 1 << 6;
+    public static final int PLAYER_HAND_CHANGED = 1 << 7;
+    public static final int OPPONENT_HAND_CHANGED = 1 << 8;
+    public static final int DEALER_HAND_CHANGED = 1 << 9;
+    // Set when the delta settles a hand, as a RESULT does; no field follows
+    public static final int SETTLED = 1 << 10;
+
+    // Every field, as a snapshot carries them
+    public static final int ALL_FIELDS = (1 << 10) - 1;
+
+    // Largest payload of any message: a full update with a full message and three full hands
+    public static final int MAX_MESSAGE_BYTES = 1 + 5 + 5 + 2 + 4 * 5 + 256 + 3 * 4;
+
+    // STATE and RESULT flag bits
+    private static final int DEALER_HIDDEN = 1;
+    private static final int FOLDED = 1 << 1;
+    private static final int NEW_ROUND = 1 << 2;
+
+    private GameProtocol() {
+    }
+
+    /**
+     * @param anteBet the Ante bet
+     * @param pairPlusBet the Pair Plus bet
+     * @return a DEAL payload
+     */
+    public static byte[] encodeDeal(int anteBet, int pairPlusBet) {
+        byte[] buffer = new byte[11];
+        buffer[0] = DEAL;
+        int length = writeZigzag(buffer, 1, anteBet);
+        length = writeZigzag(buffer, length, pairPlusBet);
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * @param playBet the Play bet
+     * @return a PLAY payload
+     */
+    public static byte[] encodePlay(int playBet) {
+        byte[] buffer = new byte[6];
+        buffer[0] = PLAY;
+        return Arrays.copyOf(buffer, writeZigzag(buffer, 1, playBet));
+    }
+
+    /**
+     * @return a FOLD payload
+     */
+    public static byte[] encodeFold() {
+        return new byte[] {FOLD};
+    }
+
+    /**
+     * @return a RESYNC payload
+     */
+    public static byte[] encodeResync() {
+        return new byte[] {RESYNC};
+    }
+
+    /**
+     * @param payload a message payload
+     * @return the message type
+     * @throws ProtocolException if the payload is empty
+     */
+    public static byte type(byte[] payload) throws ProtocolException {
+        if (payload.length == 0) {
+            throw new ProtocolException("Empty message.");
+        }
+        return payload[0];
+    }
+
+    /**
+     * @param payload a SEAT payload
+     * @return the player's number
+     * @throws ProtocolException if the payload is not a SEAT message
+     */
+    public static int decodeSeat(byte[] payload) throws ProtocolException {
+        if (payload.length != 2 || payload[0] != SEAT) {
+            throw new ProtocolException("Not a SEAT message.");
+        }
+        return payload[1];
+    }
+
+    /**
+     * Decodes a STATE or RESULT snapshot.
+     *
+     * @param payload a message payload
+     * @return the table state the server sent
+     * @throws ProtocolException if the payload is malformed or of another type
+     */
+    public static PokerInfo decodeState(byte[] payload) throws ProtocolException {
+        StateUpdate update = decodeUpdate(payload);
+        if (!update.isSnapshot()) {
+            throw new ProtocolException("Not a STATE or RESULT message: " + update.getType());
+        }
+        return update.getFields();
+    }
+
+    /**
+     * Decodes a STATE, RESULT or DELTA message.
+     *
+     * @param payload a message payload
+     * @return the update the server sent
+     * @throws ProtocolException if the payload is malformed or of another type
+     */
+    public static StateUpdate decodeUpdate(byte[] payload) throws ProtocolException {
+        Reader in = new Reader(payload);
+        byte type = (byte) in.u8();
+        if (type != STATE && type != RESULT && type != DELTA) {
+            throw new ProtocolException("Not a table update: " + type);
+        }
+        int sequence = in.varint();
+        int mask = type == DELTA ? in.varint() : ALL_FIELDS;
+        PokerInfo fields = new PokerInfo();
+        if ((mask & FLAGS_CHANGED) != 0) {
+            int flags = in.u8();
+            fields.setDealerCardsHidden((flags & DEALER_HIDDEN) != 0);
+            fields.setPlayerFolded((flags & FOLDED) != 0);
+            fields.setNewRound((flags & NEW_ROUND) != 0);
+        }
+        if ((mask & TURN_CHANGED) != 0) {
+            fields.setCurrentTurn(in.u8());
+        }
+        if ((mask & ANTE_CHANGED) != 0) {
+            fields.setAnteBet(in.zigzag());
+        }
+        if ((mask & PAIR_PLUS_CHANGED) != 0) {
+            fields.setPairPlusBet(in.zigzag());
+        }
+        if ((mask & PLAY_CHANGED) != 0) {
+            fields.setPlayBet(in.zigzag());
+        }
+        if ((mask & WINNINGS_CHANGED) != 0) {
+            fields.setTotalWinnings(in.zigzag());
+        }
+        if ((mask & MESSAGE_CHANGED) != 0) {
+            fields.setGameMessage(in.string());
+        }
+        if ((mask & PLAYER_HAND_CHANGED) != 0) {
+            fields.setPlayerHand(in.hand());
+        }
+        if ((mask & OPPONENT_HAND_CHANGED) != 0) {
+            fields.setOpponentHand(in.hand());
+        }
+        if ((mask & DEALER_HAND_CHANGED) != 0) {
+            fields.setDealerHand(in.hand());
+        }
+        if (in.position != payload.length) {
+            throw new ProtocolException("Unexpected bytes after message.");
+        }
+        return new StateUpdate(type, sequence, mask, fields);
+    }
+
+    /**
+     * Writes one frame.
+     *
+     * @param out the stream to write to
+     * @param payload the message payload
+     * @throws IOException if the stream fails
+     */
+    public static void writeFrame(DataOutputStream out, byte[] payload) throws IOException {
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    /**
+     * Reads one frame.
+     *
+     * @param in the stream to read from
+     * @return the message payload
+     * @throws IOException if the stream fails or the frame is too large
+     */
+    public static byte[] readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 1 || length > MAX_MESSAGE_BYTES) {
+            throw new ProtocolException("Invalid frame length " + length + ".");
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return payload;
+    }
+
+    // Writes a zigzag varint and returns the position after it
+    private static int writeZigzag(byte[] buffer, int position, int value) {
+        int bits = (value << 1) ^ (value >> 31);
+        while ((bits & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((bits & 0x7F) | 0x80);
+            bits >>>= 7;
+        }
+        buffer[position++] = (byte) bits;
+        return position;
+    }
+
+    // Reads fields, rejecting payloads that end early or hold invalid values
+    private static final class Reader {
+        private final byte[] payload;
+        private int position;
+
+        Reader(byte[] payload) {
+            this.payload = payload;
+        }
+
+        int u8() throws ProtocolException {
+            if (position >= payload.length) {
+                throw new ProtocolException("Message ends early.");
+            }
+            return payload[position++] & 0xFF;
+        }
+
+        int varint() throws ProtocolException {
+            int bits = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = u8();
+                bits |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return bits;
+                }
+            }
+            throw new ProtocolException("Malformed number.");
+        }
+
+        int zigzag() throws ProtocolException {
+            int bits = varint();
+            return (bits >>> 1) ^ -(bits & 1);
+        }
+
+        String string() throws ProtocolException {
+            int count = u8();
+            if (position + count > payload.length) {
+                throw new ProtocolException("Message ends early.");
+            }
+            String value = new String(payload, position, count, StandardCharsets.UTF_8);
+            position += count;
+            return value;
+        }
+
+        ArrayList<Card> hand() throws ProtocolException {
+            int size = u8();
+            if (size > 3) {
+                throw new ProtocolException("Hand of " + size + " cards.");
+            }
+            ArrayList<Card> hand = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int code = u8();
+                try {
+                    hand.add(Card.ofCode(code));
+                } catch (IllegalArgumentException e) {
+                    throw new ProtocolException("Invalid card " + code + ".");
+                }
+            }
+            return hand;
+        }
+    }
+}
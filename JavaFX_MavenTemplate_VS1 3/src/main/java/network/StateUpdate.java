@@ -0,0 +1,109 @@
+package network;
+
+import model.PokerInfo;
+
+/**
+ * One table update from the server: a STATE or RESULT snapshot, or a DELTA holding only
+ * the fields that changed since the update before it.
+ */
+public final class StateUpdate {
+    private final byte type;
+    private final int sequence;
+    private final int mask;
+    private final PokerInfo fields; // The fields the update carries; the rest are defaults
+
+    StateUpdate(byte type, int sequence, int mask, PokerInfo fields) {
+        this.type = type;
+        this.sequence = sequence;
+        this.mask = mask;
+        this.fields = fields;
+    }
+
+    /**
+     * @return STATE, RESULT or DELTA
+     */
+    public byte getType() {
+        return type;
+    }
+
+    /**
+     * @return the update's sequence number
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return whether the update replaces the whole state
+     */
+    public boolean isSnapshot() {
+        return type != GameProtocol.DELTA;
+    }
+
+    /**
+     * @return whether the update settles a hand
+     */
+    public boolean isResult() {
+        return type == GameProtocol.RESULT || (mask & GameProtocol.SETTLED) != 0;
+    }
+
+    /**
+     * @param fields GameProtocol field bits, such as PLAYER_HAND_CHANGED
+     * @return whether the update carries any of those fields
+     */
+    public boolean changed(int fields) {
+        return (mask & fields) != 0;
+    }
+
+    /**
+     * @return the fields the update carries
+     */
+    PokerInfo getFields() {
+        return fields;
+    }
+
+    /**
+     * Applies the update to the state the client holds.
+     *
+     * @param state the client's state, or null before the first snapshot
+     * @return the new state; a snapshot replaces it, a delta updates it in place
+     */
+    public PokerInfo applyTo(PokerInfo state) {
+        if (isSnapshot() || state == null) {
+            return fields;
+        }
+        if (changed(GameProtocol.FLAGS_CHANGED)) {
+            state.setDealerCardsHidden(fields.isDealerCardsHidden());
+            state.setPlayerFolded(fields.isPlayerFolded());
+            state.setNewRound(fields.isNewRound());
+        }
+        if (changed(GameProtocol.TURN_CHANGED)) {
+            state.setCurrentTurn(fields.getCurrentTurn());
+        }
+        if (changed(GameProtocol.ANTE_CHANGED)) {
+            state.setAnteBet(fields.getAnteBet());
+        }
+        if (changed(GameProtocol.PAIR_PLUS_CHANGED)) {
+            state.setPairPlusBet(fields.getPairPlusBet());
+        }
+        if (changed(GameProtocol.PLAY_CHANGED)) {
+            state.setPlayBet(fields.getPlayBet());
+        }
+        if (changed(GameProtocol.WINNINGS_CHANGED)) {
+            state.setTotalWinnings(fields.getTotalWinnings());
+        }
+        if (changed(GameProtocol.MESSAGE_CHANGED)) {
+            state.setGameMessage(fields.getGameMessage());
+        }
+        if (changed(GameProtocol.PLAYER_HAND_CHANGED)) {
+            state.setPlayerHand(fields.getPlayerHand());
+        }
+        if (changed(GameProtocol.OPPONENT_HAND_CHANGED)) {
+            state.setOpponentHand(fields.getOpponentHand());
+        }
+        if (changed(GameProtocol.DEALER_HAND_CHANGED)) {
+            state.setDealerHand(fields.getDealerHand());
+        }
+        return state;
+    }
+}